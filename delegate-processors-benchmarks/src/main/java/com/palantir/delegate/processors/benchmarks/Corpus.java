@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.delegate.processors.processor.Delegate;
+import java.util.List;
+import javax.tools.JavaFileObject;
+
+/** Synthetic sources, each with {@code size} annotated types. */
+public enum Corpus {
+
+    /** Independent annotated types, each implementing its own small interface. */
+    TYPES {
+        @Override
+        List<JavaFileObject> sources(int size) {
+            ImmutableList.Builder<JavaFileObject> sources = ImmutableList.builder();
+            for (int i = 0; i < size; i++) {
+                sources.add(SourceFile.of("Service" + i, "public interface Service" + i + " {" + methods(5) + "}"));
+                sources.add(SourceFile.of(
+                        "Resource" + i,
+                        ANNOTATION + "public abstract class Resource" + i + " implements Service" + i + " {}"));
+            }
+            return sources.build();
+        }
+    },
+
+    /** A single chain of interfaces, each level extending the previous one and adding a method. */
+    DEEP_HIERARCHY {
+        @Override
+        List<JavaFileObject> sources(int size) {
+            ImmutableList.Builder<JavaFileObject> sources = ImmutableList.builder();
+            for (int i = 0; i < size; i++) {
+                sources.add(SourceFile.of(
+                        "Level" + i,
+                        "public interface Level" + i + (i == 0 ? "" : " extends Level" + (i - 1)) + " {"
+                                + "String level" + i + "(String value);}"));
+                sources.add(SourceFile.of(
+                        "LevelResource" + i,
+                        ANNOTATION + "public abstract class LevelResource" + i + " implements Level" + i + " {}"));
+            }
+            return sources.build();
+        }
+    },
+
+    /**
+     * Stacked diamonds, where each layer extends two interfaces which both extend the previous layer, so every
+     * inherited method is reachable through an exponential number of paths.
+     */
+    DIAMOND_HIERARCHY {
+        @Override
+        List<JavaFileObject> sources(int size) {
+            ImmutableList.Builder<JavaFileObject> sources = ImmutableList.builder();
+            for (int i = 0; i < size; i++) {
+                String parent = i == 0 ? "" : " extends Join" + (i - 1);
+                sources.add(SourceFile.of(
+                        "Left" + i, "public interface Left" + i + parent + " {String left" + i + "(String value);}"));
+                sources.add(SourceFile.of(
+                        "Right" + i,
+                        "public interface Right" + i + parent + " {String right" + i + "(String value);}"));
+                sources.add(SourceFile.of(
+                        "Join" + i,
+                        "public interface Join" + i + " extends Left" + i + ", Right" + i + " {String join" + i
+                                + "(String value);}"));
+                sources.add(SourceFile.of(
+                        "JoinResource" + i,
+                        ANNOTATION + "public abstract class JoinResource" + i + " implements Join" + i + " {}"));
+            }
+            return sources.build();
+        }
+    },
+
+    /** Annotated types implementing a shared interface with hundreds of methods. */
+    WIDE_INTERFACE {
+        @Override
+        List<JavaFileObject> sources(int size) {
+            ImmutableList.Builder<JavaFileObject> sources = ImmutableList.builder();
+            sources.add(SourceFile.of("WideService", "public interface WideService {" + methods(250) + "}"));
+            for (int i = 0; i < size; i++) {
+                sources.add(SourceFile.of(
+                        "WideResource" + i,
+                        ANNOTATION + "public abstract class WideResource" + i + " implements WideService {}"));
+            }
+            return sources.build();
+        }
+    },
+
+    /** Generic annotated types with bounded and intersection type parameters, and generic methods. */
+    BOUNDED_GENERICS {
+        @Override
+        List<JavaFileObject> sources(int size) {
+            ImmutableList.Builder<JavaFileObject> sources = ImmutableList.builder();
+            for (int i = 0; i < size; i++) {
+                sources.add(SourceFile.of(
+                        "BoundedService" + i,
+                        "public interface BoundedService" + i
+                                + "<T extends CharSequence, R extends java.util.Collection<? extends T>> {"
+                                + "<U extends T> R apply(U value, java.util.Map<? super T, ? extends R> mapping)"
+                                + " throws java.io.IOException;"
+                                + "<E extends Exception> T orElseThrow(java.util.function.Supplier<? extends E>"
+                                + " supplier) throws E;"
+                                + "java.util.Optional<? extends T> find(java.util.List<? super R> values);}"));
+                sources.add(SourceFile.of(
+                        "BoundedResource" + i,
+                        ANNOTATION + "public abstract class BoundedResource" + i
+                                + "<T extends CharSequence & Comparable<? super T>, R extends java.util.List<T>>"
+                                + " implements BoundedService" + i + "<T, R>, java.util.concurrent.Callable<R> {}"));
+            }
+            return sources.build();
+        }
+    };
+
+    private static final String ANNOTATION = '@' + Delegate.class.getName() + ' ';
+
+    abstract List<JavaFileObject> sources(int size);
+
+    private static String methods(int count) {
+        StringBuilder methods = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            methods.append("String method").append(i).append("(String value, int count) throws java.io.IOException;");
+        }
+        return methods.toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/** Retains generated and compiled files in memory, so benchmarks don't measure disk I/O. */
+final class OutputFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+    private final List<OutputFile> outputs = new ArrayList<>();
+    private final Map<String, OutputFile> classFiles = new HashMap<>();
+
+    OutputFileManager(JavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    int outputCount() {
+        return outputs.size();
+    }
+
+    /** Returns the compiled class file of the given binary name, if any. */
+    Optional<byte[]> classFile(String className) {
+        return Optional.ofNullable(classFiles.get(className)).map(OutputFile::bytes);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+            Location location, String className, JavaFileObject.Kind kind, FileObject _sibling) {
+        OutputFile output = output(location.getName() + '/' + className.replace('.', '/') + kind.extension, kind);
+        if (kind == JavaFileObject.Kind.CLASS) {
+            classFiles.put(className, output);
+        }
+        return output;
+    }
+
+    @Override
+    public FileObject getFileForOutput(
+            Location location, String packageName, String relativeName, FileObject _sibling) {
+        return output(
+                location.getName() + '/' + packageName.replace('.', '/') + '/' + relativeName,
+                JavaFileObject.Kind.OTHER);
+    }
+
+    @Override
+    public void close() {
+        // The delegate file manager is shared between compilations.
+    }
+
+    private OutputFile output(String path, JavaFileObject.Kind kind) {
+        OutputFile output = new OutputFile(URI.create("mem:///" + path), kind);
+        outputs.add(output);
+        return output;
+    }
+
+    private static final class OutputFile extends SimpleJavaFileObject {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        OutputFile(URI uri, Kind kind) {
+            super(uri, kind);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            content.reset();
+            return content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean _ignoreEncodingErrors) {
+            return content.toString(StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes() {
+            return content.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures annotation processing of each {@link Corpus} through the compiler API. Compilation stops after annotation
+ * processing and generated files are retained in memory, so results are dominated by the processor and javac's
+ * parsing and attribution of the corpus, which is measured separately by {@link BenchmarkProcessor#NONE}. Run with
+ * {@code ./gradlew :delegate-processors-benchmarks:jmh}, which reports allocation rates using the JMH gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {
+            // Required by the formatter
+            "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED"
+        })
+public class ProcessorBenchmark {
+
+    @Param
+    public BenchmarkProcessor processor;
+
+    @Param
+    public Corpus corpus;
+
+    @Param({"10", "100"})
+    public int size;
+
+    private JavaCompiler compiler;
+    private StandardJavaFileManager fileManager;
+    private List<String> options;
+    private List<JavaFileObject> sources;
+
+    @Setup
+    public void setup() {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        options = List.of("-proc:only", "-classpath", System.getProperty("java.class.path"));
+        sources = corpus.sources(size);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fileManager.close();
+    }
+
+    @Benchmark
+    public int process() {
+        OutputFileManager outputs = new OutputFileManager(fileManager);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        CompilationTask task = compiler.getTask(null, outputs, diagnostics, options, null, sources);
+        task.setProcessors(processor.create());
+        if (!task.call()) {
+            throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+        }
+        return outputs.outputCount();
+    }
+}
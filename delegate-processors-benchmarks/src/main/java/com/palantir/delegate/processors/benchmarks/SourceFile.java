@@ -0,0 +1,42 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.benchmarks;
+
+import java.net.URI;
+import javax.tools.SimpleJavaFileObject;
+
+/** In memory source of a type in the {@value #PACKAGE} package. */
+final class SourceFile extends SimpleJavaFileObject {
+
+    static final String PACKAGE = "bench";
+
+    private final String source;
+
+    private SourceFile(String simpleName, String source) {
+        super(URI.create("mem:///" + PACKAGE + '/' + simpleName + Kind.SOURCE.extension), Kind.SOURCE);
+        this.source = source;
+    }
+
+    static SourceFile of(String simpleName, String declaration) {
+        return new SourceFile(simpleName, "package " + PACKAGE + ";\n" + declaration + '\n');
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean _ignoreEncodingErrors) {
+        return source;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.benchmarks;
+
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.RebindingProcessor;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a call through a generated wrapper which is either created or rebound for each request. Wrappers created
+ * per request are expected to be scalar replaced, so the JMH gc profiler should report no allocation per operation for
+ * either {@link Wrapping}. The wrappers are generated and compiled in memory during setup, with and without
+ * {@code delegate.processors.nullCheckMessages}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+        value = 1,
+        jvmArgsAppend = {
+            // Required by the formatter
+            "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+            "--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED"
+        })
+public class WrappingBenchmark {
+
+    public enum Wrapping {
+        /** Creates a wrapper through its factory for each request. */
+        FACTORY(SimpleProcessor::new, "return ServiceWrapper.of(delegate).greet(name);"),
+        /** Rebinds a single wrapper to the delegate of each request. */
+        REBIND(RebindingProcessor::new, "return wrapper.rebind(delegate).greet(name);");
+
+        private final Supplier<Processor> processor;
+        private final String request;
+
+        Wrapping(Supplier<Processor> processor, String request) {
+            this.processor = processor;
+            this.request = request;
+        }
+    }
+
+    @Param
+    public Wrapping wrapping;
+
+    @Param({"true", "false"})
+    public boolean nullCheckMessages;
+
+    private String name;
+    private UnaryOperator<String> driver;
+
+    @Setup
+    public void setup() throws IOException, ReflectiveOperationException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            OutputFileManager outputs = new OutputFileManager(fileManager);
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            CompilationTask task = compiler.getTask(
+                    null,
+                    outputs,
+                    diagnostics,
+                    List.of(
+                            "-classpath",
+                            System.getProperty("java.class.path"),
+                            "-Adelegate.processors.nullCheckMessages=" + nullCheckMessages),
+                    null,
+                    List.of(
+                            SourceFile.of(
+                                    "Service",
+                                    "@" + Delegate.class.getName() + " public interface Service {"
+                                            + " String greet(String name); }"),
+                            SourceFile.of(
+                                    "Driver",
+                                    "public final class Driver implements java.util.function.UnaryOperator<String> {"
+                                            + " private final Service delegate = name -> name;"
+                                            + " private final ServiceWrapper wrapper = ServiceWrapper.of(delegate);"
+                                            + " @Override public String apply(String name) { " + wrapping.request
+                                            + " } }")));
+            task.setProcessors(List.of(wrapping.processor.get()));
+            if (!task.call()) {
+                throw new IllegalStateException("Compilation failed: " + diagnostics.getDiagnostics());
+            }
+            @SuppressWarnings("unchecked")
+            UnaryOperator<String> compiled = (UnaryOperator<String>) new OutputClassLoader(outputs)
+                    .loadClass(SourceFile.PACKAGE + ".Driver")
+                    .getConstructor()
+                    .newInstance();
+            driver = compiled;
+        }
+        name = "name";
+    }
+
+    @Benchmark
+    public String request() {
+        return driver.apply(name);
+    }
+
+    private static final class OutputClassLoader extends ClassLoader {
+
+        private final OutputFileManager outputs;
+
+        OutputClassLoader(OutputFileManager outputs) {
+            super(WrappingBenchmark.class.getClassLoader());
+            this.outputs = outputs;
+        }
+
+        @Override
+        protected Class<?> findClass(String className) throws ClassNotFoundException {
+            byte[] classFile = outputs.classFile(className).orElseThrow(() -> new ClassNotFoundException(className));
+            return defineClass(className, classFile, 0, classFile.length);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.palantir.delegate.processors;
 
 import com.palantir.delegate.processors.ImmutableAnnotatedType.TypeBuildStage;
 import java.util.List;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 import org.immutables.value.Value;
@@ -27,6 +28,16 @@ import org.immutables.value.Value;
 public interface AnnotatedType {
     TypeElement type();
 
+    /**
+     * The annotated element the generated type is attributed to, and generated in the package of. This is the
+     * {@link #type()} itself, unless the type is an external interface named by one of the
+     * {@link DelegateProcessorStrategy#externalAnnotations()}.
+     */
+    @Value.Default
+    default Element originatingElement() {
+        return type();
+    }
+
     List<TypeMirror> interfaces();
 
     List<AnnotatedTypeMethod> methods();
@@ -0,0 +1,243 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Fuses several strategies into a single generated type, rather than stacking a generated wrapper per strategy. The
+ * fused type has a single delegate field and dispatches to the delegate once, avoiding an object and an interface
+ * dispatch per layer.
+ *
+ * <p>Strategies are given outermost first, as if each wrapped the next. The hooks of each strategy are generated in a
+ * {@code try} block nested within that of the previous strategy, so hooks run in the same order as stacked wrappers:
+ * {@code before} hooks run outermost first, {@code onSuccess}, {@code onFailure} and {@code alwaysAfter} hooks run
+ * innermost first, and a failing hook of an inner strategy runs the {@code onFailure} and {@code alwaysAfter} hooks of
+ * every outer strategy. The processor generates the hooks of each strategy itself, rather than calling the hook methods
+ * of the composite, which return nothing. State variables of every strategy are declared ahead of the outermost
+ * {@code before} hook. Inner hooks are in the scope of outer hooks, so local variables declared by the hooks of
+ * different strategies must have distinct names, otherwise an error is reported.
+ *
+ * <p>The outermost strategy defines the name, delegate type, factory method, unwrap and rebind methods of the generated
+ * type. Every strategy contributes its supported annotations, hooks, state variables, options and additional fields,
+ * and customizes the generated type in turn, outermost first. Methods and superinterfaces which a strategy adds
+ * identically to an outer strategy, such as a shared factory method, are only added once. Methods a strategy excludes
+ * through {@link #excludedAnnotations()} or {@link #hooked(DelegateMethodArguments)} only receive the hooks of the
+ * other strategies.
+ */
+public final class CompositeStrategy implements DelegateProcessorStrategy {
+
+    private final DelegateProcessorStrategy outermost;
+    private final ImmutableList<DelegateProcessorStrategy> strategies;
+
+    private CompositeStrategy(ImmutableList<DelegateProcessorStrategy> strategies) {
+        this.outermost = strategies.get(0);
+        this.strategies = strategies;
+    }
+
+    /** Fuses the given strategies, outermost first. Composite strategies are replaced by the strategies they fuse. */
+    public static CompositeStrategy of(DelegateProcessorStrategy outermost, DelegateProcessorStrategy... inner) {
+        return new CompositeStrategy(Stream.concat(Stream.of(outermost), Arrays.stream(inner))
+                .flatMap(strategy -> strategy instanceof CompositeStrategy
+                        ? ((CompositeStrategy) strategy).strategies.stream()
+                        : Stream.of(strategy))
+                .collect(ImmutableList.toImmutableList()));
+    }
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return strategies.stream()
+                .flatMap(strategy -> strategy.supportedAnnotations().stream())
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    @Override
+    public Set<String> externalAnnotations() {
+        return strategies.stream()
+                .flatMap(strategy -> strategy.externalAnnotations().stream())
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    @Override
+    public Set<String> supportedOptions() {
+        return strategies.stream()
+                .flatMap(strategy -> strategy.supportedOptions().stream())
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return outermost.generatedTypeName(annotatedTypeName);
+    }
+
+    @Override
+    public TypeName delegateType(DelegateTypeArguments arguments) {
+        return outermost.delegateType(arguments);
+    }
+
+    /** Methods are hooked by any strategy which doesn't exclude them, other strategies contribute no hooks. */
+    @Override
+    public boolean hooked(DelegateMethodArguments arguments) {
+        return strategies.stream().anyMatch(strategy -> Methods.isHooked(strategy, arguments));
+    }
+
+    /**
+     * Hooks are shared by every strategy, so they're only sampled if every strategy hooking the method samples it, at
+     * the highest rate any of them requires.
+     */
+    @Override
+    public OptionalInt sampleRate(DelegateMethodArguments arguments) {
+        OptionalInt sampleRate = OptionalInt.empty();
+        for (DelegateProcessorStrategy strategy : hooking(strategies, arguments)) {
+            OptionalInt strategySampleRate = strategy.sampleRate(arguments);
+            if (strategySampleRate.isEmpty()) {
+                return OptionalInt.empty();
+            }
+            if (sampleRate.isEmpty() || strategySampleRate.getAsInt() < sampleRate.getAsInt()) {
+                sampleRate = strategySampleRate;
+            }
+        }
+        return sampleRate;
+    }
+
+    @Override
+    public List<StateVariable> state(DelegateMethodArguments arguments) {
+        ImmutableList.Builder<StateVariable> state = ImmutableList.builder();
+        Set<String> names = new HashSet<>();
+        for (DelegateProcessorStrategy strategy : hooking(strategies, arguments)) {
+            for (StateVariable variable : strategy.state(arguments)) {
+                if (names.add(variable.name())) {
+                    state.add(variable);
+                } else {
+                    arguments
+                            .context()
+                            .messager()
+                            .printMessage(
+                                    Kind.ERROR,
+                                    "Composed strategies declare more than one state variable named '" + variable.name()
+                                            + "'",
+                                    arguments.type().originatingElement());
+                }
+            }
+        }
+        return state.build();
+    }
+
+    @Override
+    public Optional<String> factoryMethodName() {
+        return outermost.factoryMethodName();
+    }
+
+    @Override
+    public boolean idempotentFactory() {
+        return outermost.idempotentFactory();
+    }
+
+    @Override
+    public Optional<String> unwrapMethodName() {
+        return outermost.unwrapMethodName();
+    }
+
+    @Override
+    public Optional<String> rebindMethodName() {
+        return outermost.rebindMethodName();
+    }
+
+    @Override
+    public boolean methodDescriptors() {
+        return strategies.stream().anyMatch(DelegateProcessorStrategy::methodDescriptors);
+    }
+
+    @Override
+    public List<FieldSpec> additionalFields(AdditionalFieldsArguments arguments) {
+        ImmutableList.Builder<FieldSpec> fields = ImmutableList.builder();
+        Set<String> names = new HashSet<>();
+        for (DelegateProcessorStrategy strategy : strategies) {
+            for (FieldSpec field : strategy.additionalFields(arguments)) {
+                if (names.add(field.name)) {
+                    fields.add(field);
+                } else {
+                    arguments
+                            .context()
+                            .messager()
+                            .printMessage(
+                                    Kind.ERROR,
+                                    "Composed strategies declare more than one field named '" + field.name + "'",
+                                    arguments.type().originatingElement());
+                }
+            }
+        }
+        return fields.build();
+    }
+
+    @Override
+    public void customize(CustomizeArguments arguments, TypeSpec.Builder generatedType) {
+        for (DelegateProcessorStrategy strategy : strategies) {
+            int methods = generatedType.methodSpecs.size();
+            int superinterfaces = generatedType.superinterfaces.size();
+            strategy.customize(arguments, generatedType);
+            removeRepeated(generatedType.methodSpecs, methods);
+            removeRepeated(generatedType.superinterfaces, superinterfaces);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeStrategy{" + strategies + '}';
+    }
+
+    /** Strategies hooking the given method, outermost first, each of which is generated as a layer of hooks. */
+    List<DelegateProcessorStrategy> layers(DelegateMethodArguments arguments) {
+        return hooking(strategies, arguments);
+    }
+
+    /** Removes elements added from the given index which are equal to an element added previously. */
+    private static <T> void removeRepeated(List<T> elements, int added) {
+        if (elements.size() <= added) {
+            return;
+        }
+        List<T> previous = elements.subList(0, added);
+        List<T> unique = new ArrayList<>();
+        for (T element : elements.subList(added, elements.size())) {
+            if (!previous.contains(element) && !unique.contains(element)) {
+                unique.add(element);
+            }
+        }
+        elements.subList(added, elements.size()).clear();
+        elements.addAll(unique);
+    }
+
+    private static List<DelegateProcessorStrategy> hooking(
+            List<DelegateProcessorStrategy> strategies, DelegateMethodArguments arguments) {
+        return strategies.stream()
+                .filter(strategy -> Methods.isHooked(strategy, arguments))
+                .collect(ImmutableList.toImmutableList());
+    }
+}
@@ -17,15 +17,18 @@
 package com.palantir.delegate.processors;
 
 import com.google.auto.common.MoreElements;
-import com.google.common.base.Throwables;
+import com.google.auto.common.Visibility;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.palantir.delegate.processors.DelegateProcessorStrategy.AdditionalFieldsArguments;
 import com.palantir.delegate.processors.DelegateProcessorStrategy.CustomizeArguments;
 import com.palantir.delegate.processors.DelegateProcessorStrategy.DelegateMethodArguments;
 import com.palantir.delegate.processors.DelegateProcessorStrategy.DelegateTypeArguments;
-import com.palantir.goethe.Goethe;
+import com.palantir.delegate.processors.HookHelpers.Hook;
+import com.palantir.delegate.processors.MethodHooks.Layer;
+import com.palantir.delegate.processors.ProcessorTimings.Phase;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
@@ -37,32 +40,69 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Generated;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.SimpleAnnotationValueVisitor9;
 import javax.tools.Diagnostic.Kind;
 
 public abstract class DelegateProcessor extends AbstractProcessor {
 
     private static final String DELEGATE_NAME = "delegate";
 
-    private final DelegateProcessorStrategy strategy;
+    // Each generated wrapper is derived from a single annotated type and its supertypes, and no state is retained
+    // between types, so processors registered with the gradle 'DYNAMIC' type are reported as isolating. The registry
+    // and shared wrappers are derived from many annotated types, so processors generating them are reported as
+    // aggregating instead.
+    private static final String GRADLE_ISOLATING_OPTION = "org.gradle.annotation.processing.isolating";
+    private static final String GRADLE_AGGREGATING_OPTION = "org.gradle.annotation.processing.aggregating";
+
+    private final ImmutableList<DelegateProcessorStrategy> strategies;
+    private final ProcessorTimings timings = new ProcessorTimings();
+    private final WrapperRegistry registry = new WrapperRegistry();
+    private final SharedWrappers sharedWrappers = new SharedWrappers();
+    // Wrappers generated in this and previous rounds, and the element each was generated for
+    private final Map<ClassName, String> generatedTypes = new HashMap<>();
+    // Parsed once rather than per round, so invalid options are reported once
+    private ProcessorOptions options;
 
     protected DelegateProcessor(DelegateProcessorStrategy strategy) {
-        this.strategy = strategy;
+        this(List.of(strategy));
+    }
+
+    /**
+     * Creates a processor which applies each of the given strategies to the types annotated with any of the
+     * strategy's {@link DelegateProcessorStrategy#supportedAnnotations()}. Each annotated type is modeled once,
+     * regardless of the number of strategies it's processed by.
+     */
+    protected DelegateProcessor(List<DelegateProcessorStrategy> strategies) {
+        Preconditions.checkArgument(!strategies.isEmpty(), "At least one strategy is required");
+        this.strategies = ImmutableList.copyOf(strategies);
     }
 
     @Override
@@ -72,41 +112,261 @@ public abstract class DelegateProcessor extends AbstractProcessor {
 
     @Override
     public final Set<String> getSupportedAnnotationTypes() {
-        return strategy.supportedAnnotations();
+        return strategies.stream()
+                .flatMap(strategy -> Stream.concat(
+                        strategy.supportedAnnotations().stream(), strategy.externalAnnotations().stream()))
+                .collect(ImmutableSet.toImmutableSet());
+    }
+
+    @Override
+    public final Set<String> getSupportedOptions() {
+        boolean aggregating = isInitialized() && ProcessorOptions.isAggregating(processingEnv.getOptions());
+        ImmutableSet.Builder<String> options = ImmutableSet.<String>builder()
+                .add(aggregating ? GRADLE_AGGREGATING_OPTION : GRADLE_ISOLATING_OPTION)
+                .addAll(ProcessorOptions.SUPPORTED);
+        strategies.forEach(strategy -> options.addAll(strategy.supportedOptions()));
+        return options.build();
+    }
+
+    @Override
+    public final synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        options = ProcessorOptions.parse(ProcessorContext.create(processingEnv).options(), processingEnv.getMessager());
     }
 
     @Override
     public final boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         ProcessorContext context = ProcessorContext.create(processingEnv);
-        roundEnv.getElementsAnnotatedWithAny(annotations.toArray(TypeElement[]::new)).stream()
-                .flatMap(element -> annotatedType(context, element))
-                .distinct()
-                .flatMap(element -> toModelType(element, context).stream())
-                .map(modelType -> generateJavaFile(modelType, context))
-                .forEach(javaFile -> {
-                    if (javaFile.typeSpec.originatingElements.size() != 1) {
-                        context.messager()
-                                .printMessage(
-                                        Kind.ERROR,
-                                        "Expected '" + javaFile.typeSpec.name
-                                                + "' to have a single originating element.");
-                    }
-                    try {
-                        Goethe.formatAndEmit(javaFile, context.filer());
-                    } catch (RuntimeException e) {
-                        context.messager()
-                                .printMessage(
-                                        Kind.ERROR,
-                                        "Failed to write class '" + javaFile.typeSpec.name + "': "
-                                                + Throwables.getStackTraceAsString(e),
-                                        Iterables.getFirst(javaFile.typeSpec.originatingElements, null));
+        MethodIndex index = MethodIndex.create(context);
+        timings.recordRound();
+        Set<String> annotationNames = annotations.stream()
+                .map(annotation -> annotation.getQualifiedName().toString())
+                .collect(Collectors.toUnmodifiableSet());
+        Map<Target, Set<DelegateProcessorStrategy>> annotatedTypes = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWithAny(annotations.toArray(TypeElement[]::new))) {
+            Set<DelegateProcessorStrategy> elementStrategies = strategies(element, annotationNames, context);
+            if (!elementStrategies.isEmpty()) {
+                annotatedType(context, element).forEach(typeElement -> annotatedTypes
+                        .computeIfAbsent(
+                                new Target(typeElement, typeElement, Optional.empty()), _target -> new HashSet<>())
+                        .addAll(elementStrategies));
+            }
+            externalTypes(element, annotationNames, context).forEach((target, externalStrategies) -> annotatedTypes
+                    .computeIfAbsent(target, _target -> new HashSet<>())
+                    .addAll(externalStrategies));
+        }
+        List<SharedWrappers.Request> requests = new ArrayList<>();
+        annotatedTypes.forEach((target, typeStrategies) -> timings.time(
+                        Phase.MODEL, target.type(), () -> toModelType(target, context, index))
+                .ifPresent(modelType -> {
+                    Map<String, DelegateProcessorStrategy> generatedTypeNames = new HashMap<>();
+                    // Strategies are applied in the order they were provided for deterministic output.
+                    for (DelegateProcessorStrategy strategy : strategies) {
+                        if (!typeStrategies.contains(strategy)) {
+                            continue;
+                        }
+                        String generatedTypeName = strategy.generatedTypeName(
+                                modelType.type().getSimpleName().toString());
+                        DelegateProcessorStrategy existing =
+                                generatedTypeNames.putIfAbsent(generatedTypeName, strategy);
+                        if (existing != null) {
+                            context.messager()
+                                    .printMessage(
+                                            Kind.ERROR,
+                                            "Strategies " + existing + " and " + strategy
+                                                    + " both generate a wrapper named '" + generatedTypeName
+                                                    + "' for this type.",
+                                            target.originatingElement());
+                        } else if (isFirstGeneratedBy(target, generatedTypeName, context)) {
+                            requests.add(new SharedWrappers.Request(strategy, modelType));
+                        }
                     }
-                });
+                }));
+        SharedWrappers.Generator generator = (strategy, annotatedType, generatedTypeName) -> timings.time(
+                Phase.GENERATE,
+                annotatedType.type(),
+                () -> generateJavaFile(strategy, annotatedType, generatedTypeName, context, options, index));
+        List<SharedWrappers.Wrapper> wrappers = options.shareWrappers()
+                ? sharedWrappers.generate(requests, generator, context)
+                : requests.stream()
+                        .map(request -> new SharedWrappers.Wrapper(
+                                request.strategy(),
+                                request.annotatedType(),
+                                generator.generate(
+                                        request.strategy(),
+                                        request.annotatedType(),
+                                        request.strategy()
+                                                .generatedTypeName(request.annotatedType()
+                                                        .type()
+                                                        .getSimpleName()
+                                                        .toString()))))
+                        .collect(Collectors.toList());
+        List<JavaFile> javaFiles = new ArrayList<>();
+        for (SharedWrappers.Wrapper wrapper : wrappers) {
+            JavaFile javaFile = wrapper.javaFile();
+            // Isolating processors must attribute every generated file to exactly one originating element, otherwise
+            // gradle cannot tell which sources need to be reprocessed. Shared wrappers are generated by aggregating
+            // processors instead.
+            if (!options.shareWrappers() && javaFile.typeSpec.originatingElements.size() != 1) {
+                context.messager()
+                        .printMessage(
+                                Kind.ERROR,
+                                "Expected '" + javaFile.typeSpec.name + "' to have a single originating element.");
+            } else {
+                javaFiles.add(javaFile);
+                options.registryPackage()
+                        .ifPresent(registryPackage -> registry.add(
+                                wrapper.strategy(), wrapper.annotatedType(), javaFile, registryPackage, context));
+            }
+        }
+        JavaFiles.emit(javaFiles, context, options, timings);
+        options.registryPackage().ifPresent(registryPackage -> {
+            ClassName registryName = ClassName.get(registryPackage, getClass().getSimpleName() + "Registry");
+            if (registry.isWritten()) {
+                annotatedTypes.keySet().forEach(target -> context.messager()
+                        .printMessage(
+                                Kind.ERROR,
+                                "Annotated type was generated after '" + registryName + "', it cannot be registered.",
+                                target.originatingElement()));
+            } else if (annotatedTypes.isEmpty()) {
+                // The registry is written once a round discovers no further annotated types, which may have been
+                // generated by other processors in earlier rounds, so it is compiled along with the wrappers.
+                registry.write(registryName, getClass().getName(), context, options, timings);
+            }
+        });
+        if (roundEnv.processingOver()) {
+            timings.report(getClass().getName(), context, options);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if no other element generates a wrapper of the same name in the package of the given target,
+     * otherwise reports an error naming the element which does. Several elements in a package may name the same
+     * external interface, or name an interface which is annotated itself, but its wrapper can only be generated once.
+     */
+    private boolean isFirstGeneratedBy(Target target, String generatedTypeName, ProcessorContext context) {
+        ClassName generatedClassName = ClassName.get(
+                context.elements()
+                        .getPackageOf(target.originatingElement())
+                        .getQualifiedName()
+                        .toString(),
+                generatedTypeName);
+        String holder = target.originatingElement().toString();
+        String existing = generatedTypes.putIfAbsent(generatedClassName, holder);
+        if (existing == null) {
+            return true;
+        }
+        String message = "Wrapper '" + generatedClassName + "' is already generated for '" + existing + "'.";
+        target.annotation()
+                .ifPresentOrElse(
+                        annotation -> context.messager()
+                                .printMessage(Kind.ERROR, message, target.originatingElement(), annotation),
+                        () -> context.messager().printMessage(Kind.ERROR, message, target.originatingElement()));
+        return false;
+    }
+
+    /** Strategies supporting any of the annotations of the given element which are processed in this round. */
+    private Set<DelegateProcessorStrategy> strategies(
+            Element element, Set<String> annotationNames, ProcessorContext context) {
+        Set<String> elementAnnotations = context.elements().getAllAnnotationMirrors(element).stream()
+                .map(mirror -> MoreElements.asType(mirror.getAnnotationType().asElement())
+                        .getQualifiedName()
+                        .toString())
+                .filter(annotationNames::contains)
+                .collect(Collectors.toUnmodifiableSet());
+        return strategies.stream()
+                .filter(strategy -> elementAnnotations.stream().anyMatch(annotation -> supports(strategy, annotation)))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * External interfaces named by any of the {@link DelegateProcessorStrategy#externalAnnotations()} of the given
+     * element which are processed in this round, and the strategies naming them. Each interface is attributed to the
+     * first annotation naming it.
+     */
+    private Map<Target, Set<DelegateProcessorStrategy>> externalTypes(
+            Element element, Set<String> annotationNames, ProcessorContext context) {
+        Map<TypeElement, Target> targets = new HashMap<>();
+        Map<Target, Set<DelegateProcessorStrategy>> externalTypes = new LinkedHashMap<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String annotationName = MoreElements.asType(
+                            mirror.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .toString();
+            Set<DelegateProcessorStrategy> annotationStrategies = strategies.stream()
+                    .filter(strategy -> strategy.externalAnnotations().contains(annotationName))
+                    .collect(Collectors.toUnmodifiableSet());
+            if (!annotationNames.contains(annotationName) || annotationStrategies.isEmpty()) {
+                continue;
+            }
+            for (TypeMirror externalType : externalTypeMirrors(mirror, context)) {
+                Element externalElement = context.types().asElement(externalType);
+                if (externalType.getKind() != TypeKind.DECLARED
+                        || externalElement == null
+                        || externalElement.getKind() != ElementKind.INTERFACE) {
+                    context.messager()
+                            .printMessage(
+                                    Kind.ERROR,
+                                    "Expected an interface to be named by @" + annotationName + ", found: "
+                                            + externalType,
+                                    element,
+                                    mirror);
+                } else if (!isAccessible(externalElement, element, context)) {
+                    context.messager()
+                            .printMessage(
+                                    Kind.ERROR,
+                                    "External interface is not accessible from the package of its wrapper: "
+                                            + externalType,
+                                    element,
+                                    mirror);
+                } else {
+                    Target target = targets.computeIfAbsent(
+                            MoreElements.asType(externalElement),
+                            type -> new Target(type, element, Optional.of(mirror)));
+                    externalTypes
+                            .computeIfAbsent(target, _target -> new HashSet<>())
+                            .addAll(annotationStrategies);
+                }
+            }
+        }
+        return externalTypes;
+    }
+
+    private static List<TypeMirror> externalTypeMirrors(AnnotationMirror mirror, ProcessorContext context) {
+        ImmutableList.Builder<TypeMirror> types = ImmutableList.builder();
+        context.elements().getElementValuesWithDefaults(mirror).forEach((element, value) -> {
+            if (element.getSimpleName().contentEquals("value")) {
+                value.accept(ExternalTypesVisitor.INSTANCE, types);
+            }
+        });
+        return types.build();
+    }
 
+    private static boolean isAccessible(Element externalElement, Element element, ProcessorContext context) {
+        Visibility visibility = Visibility.effectiveVisibilityOfElement(externalElement);
+        return visibility == Visibility.PUBLIC
+                || (visibility != Visibility.PRIVATE
+                        && context.elements()
+                                .getPackageOf(externalElement)
+                                .equals(context.elements().getPackageOf(element)));
+    }
+
+    // Mirrors the patterns supported by Processor.getSupportedAnnotationTypes
+    private static boolean supports(DelegateProcessorStrategy strategy, String annotationName) {
+        for (String supported : strategy.supportedAnnotations()) {
+            if (supported.equals("*")
+                    || supported.equals(annotationName)
+                    || (supported.endsWith(".*")
+                            && annotationName.startsWith(supported.substring(0, supported.length() - 1)))) {
+                return true;
+            }
+        }
         return false;
     }
 
-    private Optional<AnnotatedType> toModelType(TypeElement typeElement, ProcessorContext context) {
+    private Optional<AnnotatedType> toModelType(Target target, ProcessorContext context, MethodIndex index) {
+        TypeElement typeElement = target.type();
         List<TypeMirror> interfaces = getInterfaces(typeElement, context);
         if (interfaces.isEmpty()) {
             context.messager()
@@ -119,46 +379,79 @@ public abstract class DelegateProcessor extends AbstractProcessor {
         return Optional.of(AnnotatedType.builder()
                 .type(typeElement)
                 .addAllInterfaces(interfaces)
-                .addAllMethods(toModelMethods(typeElement, context))
+                .addAllMethods(toModelMethods(typeElement, context, index))
+                .originatingElement(target.originatingElement())
                 .build());
     }
 
-    private List<AnnotatedTypeMethod> toModelMethods(TypeElement typeElement, ProcessorContext context) {
+    private static List<AnnotatedTypeMethod> toModelMethods(
+            TypeElement typeElement, ProcessorContext context, MethodIndex index) {
         return MoreElements.getLocalAndInheritedMethods(typeElement, context.types(), context.elements()).stream()
-                .filter(executableElement -> !Methods.isObjectMethod(context.elements(), executableElement))
+                .filter(executableElement -> !index.isObjectMethod(executableElement))
                 .map(element -> AnnotatedTypeMethod.builder()
                         .implementation(element)
-                        .addAllOverridden(Methods.getInterfaceMethods(element, context))
+                        .addAllOverridden(index.getInterfaceMethods(element))
                         .build())
                 // Filter out anything that isn't provided by an interface.
                 .filter(method -> !method.overridden().isEmpty())
-                .collect(Collectors.toUnmodifiableList());
+                // Methods are ordered by signature rather than the order in which the compiler lists inherited
+                // methods, which may vary between compilers and classpaths, so generated sources are reproducible.
+                .sorted(Comparator.comparing(method -> erasedSignature(method.implementation(), context)))
+                // Interfaces may inherit the same generic method from several interfaces, for example 'accept(T)'
+                // from both 'Consumer<T>' and 'Sink<T>', which are implemented by a single wrapper method.
+                .collect(Collectors.toMap(
+                        method -> erasedSignature(method.implementation(), context),
+                        Function.identity(),
+                        (first, second) -> AnnotatedTypeMethod.builder()
+                                .implementation(first.implementation())
+                                .addAllOverridden(ImmutableSet.<ExecutableElement>builder()
+                                        .addAll(first.overridden())
+                                        .addAll(second.overridden())
+                                        .build())
+                                .build(),
+                        LinkedHashMap::new))
+                .values()
+                .stream()
+                .collect(ImmutableList.toImmutableList());
     }
 
-    private JavaFile generateJavaFile(AnnotatedType annotatedType, ProcessorContext context) {
-        return JavaFile.builder(
-                        context.elements()
-                                .getPackageOf(annotatedType.type())
-                                .getQualifiedName()
-                                .toString(),
-                        generateTypeSpec(annotatedType, context))
-                .skipJavaLangImports(true)
-                .indent("    ")
-                .build();
+    private static String erasedSignature(ExecutableElement method, ProcessorContext context) {
+        return method.getParameters().stream()
+                .map(parameter -> context.types().erasure(parameter.asType()).toString())
+                .collect(Collectors.joining(",", method.getSimpleName() + "(", ")"));
+    }
+
+    private JavaFile generateJavaFile(
+            DelegateProcessorStrategy strategy,
+            AnnotatedType annotatedType,
+            String generatedTypeSimpleName,
+            ProcessorContext context,
+            ProcessorOptions options,
+            MethodIndex index) {
+        return JavaFiles.create(
+                context.elements()
+                        .getPackageOf(annotatedType.originatingElement())
+                        .getQualifiedName()
+                        .toString(),
+                generateTypeSpec(strategy, annotatedType, generatedTypeSimpleName, context, options, index));
     }
 
-    private TypeSpec generateTypeSpec(AnnotatedType annotatedType, ProcessorContext context) {
+    private TypeSpec generateTypeSpec(
+            DelegateProcessorStrategy strategy,
+            AnnotatedType annotatedType,
+            String generatedTypeSimpleName,
+            ProcessorContext context,
+            ProcessorOptions options,
+            MethodIndex index) {
         TypeElement typeElement = annotatedType.type();
-        String generatedTypeSimpleName =
-                strategy.generatedTypeName(typeElement.getSimpleName().toString());
         ClassName generatedClassName = ClassName.get(
                 context.elements()
-                        .getPackageOf(annotatedType.type())
+                        .getPackageOf(annotatedType.originatingElement())
                         .getQualifiedName()
                         .toString(),
                 generatedTypeSimpleName);
         TypeSpec.Builder builder = TypeSpec.classBuilder(generatedTypeSimpleName)
-                .addOriginatingElement(typeElement)
+                .addOriginatingElement(annotatedType.originatingElement())
                 .addAnnotation(AnnotationSpec.builder(Generated.class)
                         .addMember("value", "$S", getClass().getName())
                         .build())
@@ -177,9 +470,13 @@ public abstract class DelegateProcessor extends AbstractProcessor {
             builder.addTypeVariable((TypeVariableName) delegateTypeName);
         }
 
-        FieldSpec delegateField = FieldSpec.builder(delegateTypeName, DELEGATE_NAME)
-                .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
-                .build();
+        Optional<String> rebindMethodName = strategy.rebindMethodName();
+        FieldSpec.Builder delegateFieldBuilder =
+                FieldSpec.builder(delegateTypeName, DELEGATE_NAME).addModifiers(Modifier.PRIVATE);
+        if (rebindMethodName.isEmpty()) {
+            delegateFieldBuilder.addModifiers(Modifier.FINAL);
+        }
+        FieldSpec delegateField = delegateFieldBuilder.build();
         ImmutableList<FieldSpec> allFields = ImmutableList.<FieldSpec>builder()
                 .add(delegateField)
                 .addAll(strategy.additionalFields(AdditionalFieldsArguments.builder()
@@ -201,23 +498,41 @@ public abstract class DelegateProcessor extends AbstractProcessor {
                         .collect(ImmutableList.toImmutableList()))
                 .addCode(ctorFields.stream()
                         .map(field -> CodeBlock.builder()
-                                .addStatement(
-                                        "this.$1N = $2T.requireNonNull($1N, $3S)",
-                                        field.name,
-                                        Objects.class,
-                                        field.name)
+                                .addStatement("this.$N = $L", field.name, requireNonNull(field.name, options))
                                 .build())
                         .collect(CodeBlock.joining("")))
                 .build());
 
-        for (AnnotatedTypeMethod method : annotatedType.methods()) {
-            builder.addMethod(generateMethodSpec(DelegateMethodArguments.builder()
-                    .context(context)
-                    .type(annotatedType)
-                    .method(method)
-                    .delegate(delegateField)
-                    .build()));
+        Optional<MethodDescriptors> descriptors = strategy.methodDescriptors()
+                ? Optional.of(MethodDescriptors.create(generatedClassName, annotatedType, context))
+                : Optional.empty();
+        List<AnnotatedTypeMethod> methods = annotatedType.methods();
+        List<MethodHooks> methodHooks = IntStream.range(0, methods.size())
+                .mapToObj(id -> MethodHooks.create(
+                        strategy,
+                        DelegateMethodArguments.builder()
+                                .context(context)
+                                .type(annotatedType)
+                                .method(methods.get(id))
+                                .delegate(delegateField)
+                                .descriptor(descriptors.map(methodDescriptors ->
+                                        methodDescriptors.descriptors().get(id)))
+                                .build(),
+                        index,
+                        options))
+                .collect(ImmutableList.toImmutableList());
+        HookHelpers hookHelpers = HookHelpers.create(
+                generatedClassName, builder.typeVariables, annotatedType, methodHooks, options, context);
+        hookHelpers.type().ifPresent(builder::addType);
+        Optional<HookGuard> hookGuard = HookGuard.create(generatedClassName, methodHooks, options);
+        hookGuard.ifPresent(guard -> guard.addTo(builder));
+        for (MethodHooks hooks : methodHooks) {
+            builder.addMethod(generateMethodSpec(hooks, hookHelpers, hookGuard, index));
         }
+        strategy.unwrapMethodName()
+                .ifPresent(methodName ->
+                        Unwrapping.addUnwrapMethod(methodName, delegateField, annotatedType, context, builder));
+        descriptors.ifPresent(methodDescriptors -> builder.addType(methodDescriptors.type()));
         builder.addMethod(MethodSpec.methodBuilder("toString")
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(Override.class)
@@ -232,6 +547,14 @@ public abstract class DelegateProcessor extends AbstractProcessor {
                         builder.typeVariables.stream()
                                 .map(param -> (TypeName) TypeVariableName.get(param.name))
                                 .toArray(TypeName[]::new));
+        rebindMethodName.ifPresent(methodName -> Unwrapping.addRebindMethod(
+                methodName,
+                delegateField,
+                requireNonNull(delegateField.name, options),
+                generatedTypeName,
+                annotatedType,
+                context,
+                builder));
         strategy.customize(
                 CustomizeArguments.builder()
                         .context(context)
@@ -240,72 +563,108 @@ public abstract class DelegateProcessor extends AbstractProcessor {
                         .delegateTypeName(delegateTypeName)
                         .build(),
                 builder);
+        if (strategy.idempotentFactory()) {
+            strategy.factoryMethodName()
+                    .ifPresent(factoryMethodName -> Unwrapping.makeFactoryIdempotent(
+                            factoryMethodName, delegateTypeName, generatedClassName, annotatedType, context, builder));
+        }
         return builder.build();
     }
 
-    private MethodSpec generateMethodSpec(DelegateMethodArguments arguments) {
-        LocalVariable throwable = LocalVariable.builder()
-                .type(ClassName.get(Throwable.class))
-                .name("_throwable")
-                .build();
+    private static CodeBlock requireNonNull(String name, ProcessorOptions options) {
+        return options.nullCheckMessages()
+                ? CodeBlock.of("$T.requireNonNull($N, $S)", Objects.class, name, name)
+                : CodeBlock.of("$T.requireNonNull($N)", Objects.class, name);
+    }
+
+    private static MethodSpec generateMethodSpec(
+            MethodHooks hooks, HookHelpers hookHelpers, Optional<HookGuard> hookGuard, MethodIndex index) {
+        DelegateMethodArguments arguments = hooks.arguments();
+        MethodSpec.Builder method = hooks.signature().toBuilder();
 
-        MethodSpec.Builder method = Methods.createMethod(arguments);
+        Optional<CodeBlock> skipHooks = HookGuard.skipHooks(hookGuard, hooks);
+        if (skipHooks.isPresent()) {
+            method.beginControlFlow("if ($L)", skipHooks.get());
+            if (hooks.result().isPresent()) {
+                method.addStatement("return $L", Methods.delegateInvocation(arguments, index));
+            } else {
+                method.addStatement(Methods.delegateInvocation(arguments, index))
+                        .addStatement("return");
+            }
+            method.endControlFlow();
+        }
 
-        strategy.before(arguments).ifPresent(method::addCode);
+        for (StateVariable variable : hooks.state()) {
+            method.addStatement("$T $N = $L", variable.type(), variable.name(), variable.initializer());
+        }
+        // The result is returned by the outermost layer with an onSuccess hook, after those of the inner layers
+        List<Layer> layers = hooks.layers();
+        int resultLayer = IntStream.range(0, layers.size())
+                .filter(layer -> layers.get(layer).hook(Hook.ON_SUCCESS).isPresent())
+                .findFirst()
+                .orElse(-1);
+        addLayer(method, hooks, hookHelpers, 0, resultLayer, index);
+        return method.build();
+    }
 
-        Optional<CodeBlock> onFailure = strategy.onFailure(arguments, throwable);
-        Optional<CodeBlock> alwaysAfter = strategy.alwaysAfter(arguments);
-        boolean requiresTry = onFailure.isPresent() || alwaysAfter.isPresent();
-        if (requiresTry) {
+    /**
+     * Adds the hooks of the given layer around those of the inner layers, so a failing hook runs the
+     * {@code onFailure} and {@code alwaysAfter} hooks of each outer layer, as stacked wrappers would. The innermost
+     * layer delegates.
+     */
+    private static void addLayer(
+            MethodSpec.Builder method,
+            MethodHooks hooks,
+            HookHelpers hookHelpers,
+            int layerIndex,
+            int resultLayer,
+            MethodIndex index) {
+        DelegateMethodArguments arguments = hooks.arguments();
+        List<Layer> layers = hooks.layers();
+        Optional<LocalVariable> result = hooks.result();
+        if (layerIndex == layers.size()) {
+            CodeBlock invocation = Methods.delegateInvocation(arguments, index);
+            result.ifPresentOrElse(
+                    variable -> {
+                        if (resultLayer < 0) {
+                            method.addStatement("return $L", invocation);
+                        } else if (resultLayer == layerIndex - 1) {
+                            method.addStatement("$T $N = $L", variable.type(), variable.name(), invocation);
+                        } else {
+                            method.addStatement("$N = $L", variable.name(), invocation);
+                        }
+                    },
+                    () -> method.addStatement(invocation));
+            return;
+        }
+        Layer layer = layers.get(layerIndex);
+        hookHelpers.hook(hooks, layer, Hook.BEFORE).ifPresent(method::addCode);
+        if (result.isPresent() && resultLayer == layerIndex && layerIndex < layers.size() - 1) {
+            method.addStatement("$T $N", result.get().type(), result.get().name());
+        }
+        if (layer.requiresTry()) {
             method.beginControlFlow("try");
         }
 
-        if (Methods.isVoid(arguments.method(), arguments.context())) {
-            strategy.onSuccess(arguments, Optional.empty())
-                    .ifPresentOrElse(
-                            onSuccess -> {
-                                method.addStatement(Methods.delegateInvocation(arguments))
-                                        .addCode(onSuccess);
-                            },
-                            () -> {
-                                method.addStatement(Methods.delegateInvocation(arguments));
-                            });
-        } else {
-            LocalVariable result = LocalVariable.builder()
-                    .type(method.build().returnType)
-                    .name("_result")
-                    .build();
-            strategy.onSuccess(arguments, Optional.of(result))
-                    .ifPresentOrElse(
-                            onSuccess -> {
-                                method.addStatement(
-                                                "$T $N = $L",
-                                                result.type(),
-                                                result.name(),
-                                                Methods.delegateInvocation(arguments))
-                                        .addCode(onSuccess)
-                                        .addStatement("return $N", result.name());
-                            },
-                            () -> {
-                                method.addStatement("return $L", Methods.delegateInvocation(arguments));
-                            });
+        addLayer(method, hooks, hookHelpers, layerIndex + 1, resultLayer, index);
+        hookHelpers.hook(hooks, layer, Hook.ON_SUCCESS).ifPresent(method::addCode);
+        if (result.isPresent() && resultLayer == layerIndex) {
+            method.addStatement("return $N", result.get().name());
         }
 
-        onFailure.ifPresent(onFailureBlock -> {
-            method.nextControlFlow("catch ($T $N)", throwable.type(), throwable.name())
+        hookHelpers.hook(hooks, layer, Hook.ON_FAILURE).ifPresent(onFailureBlock -> {
+            method.nextControlFlow("catch ($T $N)", MethodHooks.THROWABLE.type(), MethodHooks.THROWABLE.name())
                     .addCode(onFailureBlock)
-                    .addStatement("throw $N", throwable.name());
+                    .addStatement("throw $N", MethodHooks.THROWABLE.name());
         });
 
-        alwaysAfter.ifPresent(alwaysAfterBlock -> {
+        hookHelpers.hook(hooks, layer, Hook.ALWAYS_AFTER).ifPresent(alwaysAfterBlock -> {
             method.nextControlFlow("finally").addCode(alwaysAfterBlock);
         });
 
-        if (requiresTry) {
+        if (layer.requiresTry()) {
             method.endControlFlow();
         }
-
-        return method.build();
     }
 
     private static List<TypeMirror> getInterfaces(TypeElement typeElement, ProcessorContext context) {
@@ -359,4 +718,27 @@ public abstract class DelegateProcessor extends AbstractProcessor {
             }
         };
     }
+
+    /**
+     * A type to generate wrappers for, and the annotated element they're attributed to, which differs from the type
+     * for {@link DelegateProcessorStrategy#externalAnnotations() external interfaces}.
+     */
+    private record Target(TypeElement type, Element originatingElement, Optional<AnnotationMirror> annotation) {}
+
+    private static final class ExternalTypesVisitor
+            extends SimpleAnnotationValueVisitor9<Void, ImmutableList.Builder<TypeMirror>> {
+        private static final ExternalTypesVisitor INSTANCE = new ExternalTypesVisitor();
+
+        @Override
+        public Void visitType(TypeMirror type, ImmutableList.Builder<TypeMirror> types) {
+            types.add(type);
+            return null;
+        }
+
+        @Override
+        public Void visitArray(List<? extends AnnotationValue> values, ImmutableList.Builder<TypeMirror> types) {
+            values.forEach(value -> value.accept(this, types));
+            return null;
+        }
+    }
 }
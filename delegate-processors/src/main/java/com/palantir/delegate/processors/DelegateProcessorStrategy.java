@@ -22,6 +22,7 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import org.immutables.value.Value;
 
@@ -32,6 +33,24 @@ public interface DelegateProcessorStrategy {
      */
     Set<String> supportedAnnotations();
 
+    /**
+     * Returns annotations naming external interfaces which cannot be annotated themselves, such as JDK or library
+     * interfaces, through a {@code Class<?>[] value()} element. Wrappers are generated for each named interface as if
+     * it were annotated with one of the {@link #supportedAnnotations()}, in the package of the annotated type or
+     * package.
+     */
+    default Set<String> externalAnnotations() {
+        return Set.of();
+    }
+
+    /**
+     * Returns the processor options read by this strategy from {@link ProcessorContext#options()}, in addition to
+     * those supported by every {@link DelegateProcessor}.
+     */
+    default Set<String> supportedOptions() {
+        return Set.of();
+    }
+
     /**
      * Returns the simple name of the generated class.
      */
@@ -44,6 +63,47 @@ public interface DelegateProcessorStrategy {
         return Types.delegateType(arguments);
     }
 
+    /**
+     * Returns local variables holding per-call state, such as a start time, which are declared ahead of the
+     * {@link #before(DelegateMethodArguments)} hook and provided to every hook as
+     * {@link DelegateMethodArguments#state()}. State variables are declared outside of the {@code try} block, so
+     * they are in scope for {@link #onFailure(DelegateMethodArguments, LocalVariable)} and
+     * {@link #alwaysAfter(DelegateMethodArguments)} without thread locals or allocation.
+     */
+    default List<StateVariable> state(DelegateMethodArguments arguments) {
+        return List.of();
+    }
+
+    /**
+     * Returns annotations which exclude the methods they're present on from this strategy's hooks and state, so that
+     * methods such as trivial getters on hot paths forward directly to the delegate. Annotations are matched on the
+     * methods of the annotated type and the interface methods they override.
+     */
+    default Set<String> excludedAnnotations() {
+        return Set.of();
+    }
+
+    /**
+     * Returns true if the given method should be generated with this strategy's hooks and state, or false for it to
+     * forward directly to the delegate. Methods may be excluded by pattern, for example default interface methods
+     * using {@code arguments.method().implementation().isDefault()}. Methods annotated with one of the
+     * {@link #excludedAnnotations()} are excluded without calling this method. {@link DelegateMethodArguments#state()}
+     * is always empty when called.
+     */
+    default boolean hooked(DelegateMethodArguments arguments) {
+        return true;
+    }
+
+    /**
+     * Returns N for the hooks and state of the given method to run for one in N calls, chosen at random, while other
+     * calls forward directly to the delegate. Sampling keeps the cost of hooks on the hottest methods low while their
+     * measurements remain statistically valid. The sampling decision doesn't allocate. Defaults to the
+     * {@code delegate.processors.sampleRate} processor option, which runs hooks for every call unless set.
+     */
+    default OptionalInt sampleRate(DelegateMethodArguments arguments) {
+        return OptionalInt.empty();
+    }
+
     /**
      * Returns code executed prior to delegation.
      */
@@ -53,7 +113,8 @@ public interface DelegateProcessorStrategy {
 
     /**
      * Returns code executed after successful delegation. Given a {@link LocalVariable} reference to the return type,
-     * empty if the method does not return.
+     * empty if the method does not return. The result has the resolved return type of the generated method, primitive
+     * results are not boxed.
      */
     default Optional<CodeBlock> onSuccess(DelegateMethodArguments arguments, Optional<LocalVariable> result) {
         return Optional.empty();
@@ -76,6 +137,63 @@ public interface DelegateProcessorStrategy {
         return Optional.empty();
     }
 
+    /**
+     * Returns true if this strategy's hooks may be moved out of wrapper methods into static helper methods, so wide
+     * wrappers stay within JIT inlining thresholds and class file limits. Movable hooks only use the
+     * {@link DelegateMethodArguments#parameters()} and {@link DelegateMethodArguments#state()} variables, the result or
+     * throwable given to the hook, and static members. They must not return, assign those variables, rethrow the
+     * throwable, or declare local variables used by other hooks. Hooks are left in place by default.
+     */
+    default boolean movableHooks() {
+        return false;
+    }
+
+    /**
+     * Returns the name of a static method added to the generated type by
+     * {@link #customize(CustomizeArguments, TypeSpec.Builder)} which creates an instance from the delegate alone.
+     * Generated types are only included in the registry generated for {@link ProcessorOptions#REGISTRY} when a factory
+     * method is provided.
+     */
+    default Optional<String> factoryMethodName() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true for the {@link #factoryMethodName()} factory to return its argument unchanged when it is already an
+     * instance of the generated type, rather than wrapping it again. Applies to generated types without type
+     * parameters whose delegate is typed by an interface.
+     */
+    default boolean idempotentFactory() {
+        return false;
+    }
+
+    /**
+     * Returns the name of a public method added to the generated type which returns the delegate, allowing hot code
+     * paths to bypass the wrapper. No such method is generated by default.
+     */
+    default Optional<String> unwrapMethodName() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the name of a public method added to the generated type which replaces its delegate and returns the
+     * wrapper, so a thread-confined wrapper may be reused across requests rather than allocated per request. The
+     * delegate field of rebindable wrappers isn't final, and rebinding isn't safe for wrappers shared between threads.
+     * No such method is generated by default.
+     */
+    default Optional<String> rebindMethodName() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true to generate a {@link MethodDescriptor} constant for each forwarded method, provided to hooks as
+     * {@link DelegateMethodArguments#descriptor()}. Descriptors identify methods for metrics keys, span names or
+     * per-method state without reflection or building strings at runtime.
+     */
+    default boolean methodDescriptors() {
+        return false;
+    }
+
     /**
      * Returns additional fields that will be added to the generated class.
      */
@@ -112,6 +230,22 @@ public interface DelegateProcessorStrategy {
 
         FieldSpec delegate();
 
+        /**
+         * Parameters of the generated method, in declaration order, with types resolved against the annotated type.
+         * Hooks may reference parameters by {@link LocalVariable#name()}, primitive parameters have primitive types
+         * and may be recorded without boxing.
+         */
+        List<LocalVariable> parameters();
+
+        /**
+         * Per-call state variables declared by {@link DelegateProcessorStrategy#state(DelegateMethodArguments)},
+         * which are in scope for every hook. Empty when the state itself is requested.
+         */
+        List<LocalVariable> state();
+
+        /** Descriptor constant of the method, present when the strategy requests {@link #methodDescriptors()}. */
+        Optional<MethodDescriptor> descriptor();
+
         static ImmutableDelegateMethodArguments.ContextBuildStage builder() {
             return ImmutableDelegateMethodArguments.builder();
         }
@@ -0,0 +1,145 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.hash.Hashing;
+import com.palantir.goethe.Goethe;
+import com.squareup.javapoet.JavaFile;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Content addressed cache of formatted sources, shared between compilations. Entries are keyed by a hash of the
+ * unformatted source and are written atomically, so concurrent compilations may safely share a cache directory.
+ * Reading an entry refreshes its modification time, which is used to evict the least recently used entries once the
+ * cache exceeds its size bound. Failures to read or write the cache fall back to formatting.
+ */
+final class FormatCache {
+
+    // Incremented when the cache layout or formatting inputs change in a way the key doesn't capture.
+    private static final String VERSION = "1";
+    private static final String ENTRY_SUFFIX = ".java";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Duration STALE_TEMP_FILE_AGE = Duration.ofHours(1);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final String salt;
+
+    private FormatCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.salt = VERSION + ':' + Objects.toString(Goethe.class.getPackage().getImplementationVersion(), "") + ':';
+    }
+
+    static FormatCache create(Path directory, long maxBytes) throws IOException {
+        Files.createDirectories(directory);
+        return new FormatCache(directory, maxBytes);
+    }
+
+    /** Returns the formatted source of {@code javaFile}, invoking {@code formatter} only if it's not cached. */
+    String format(JavaFile javaFile, Function<JavaFile, String> formatter) {
+        String source = javaFile.toString();
+        Path entry =
+                directory.resolve(Hashing.sha256().hashString(salt + source, StandardCharsets.UTF_8) + ENTRY_SUFFIX);
+        try {
+            String cached = Files.readString(entry, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+            return cached;
+        } catch (IOException e) {
+            // Not cached, or concurrently evicted.
+        }
+        String formatted = formatter.apply(javaFile);
+        store(entry, formatted);
+        return formatted;
+    }
+
+    /** Evicts the least recently used entries until the cache is within its size bound. */
+    void trim() {
+        List<Entry> entries = new ArrayList<>();
+        long totalBytes = 0;
+        Instant staleTempFileCutoff = Instant.now().minus(STALE_TEMP_FILE_AGE);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                try {
+                    FileTime lastModified = Files.getLastModifiedTime(file);
+                    if (fileName.endsWith(ENTRY_SUFFIX)) {
+                        long size = Files.size(file);
+                        entries.add(new Entry(file, lastModified, size));
+                        totalBytes += size;
+                    } else if (fileName.endsWith(TEMP_SUFFIX)
+                            && lastModified.toInstant().isBefore(staleTempFileCutoff)) {
+                        // Left behind by a compilation which did not complete.
+                        Files.deleteIfExists(file);
+                    }
+                } catch (NoSuchFileException e) {
+                    // Concurrently evicted
+                }
+            }
+            entries.sort(Comparator.comparing(Entry::lastModified));
+            for (Entry entry : entries) {
+                if (totalBytes <= maxBytes) {
+                    break;
+                }
+                Files.deleteIfExists(entry.path());
+                totalBytes -= entry.size();
+            }
+        } catch (IOException e) {
+            // Eviction is best effort, it's retried after the next round.
+        }
+    }
+
+    private void store(Path entry, String formatted) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, entry.getFileName().toString(), TEMP_SUFFIX);
+            Files.writeString(temp, formatted, StandardCharsets.UTF_8);
+            // Readers must never observe a partially written entry.
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Including AtomicMoveNotSupportedException, in which case the entry is not cached.
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Stale temporary files are removed by trim
+        }
+    }
+
+    private record Entry(Path path, FileTime lastModified, long size) {}
+}
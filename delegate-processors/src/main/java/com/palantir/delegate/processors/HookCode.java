@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableSet;
+import com.squareup.javapoet.CodeBlock;
+import java.util.Set;
+
+/**
+ * Lexical summary of strategy hook code, computed from its rendered source without parsing it. Identifiers determine
+ * which variables a hook may use, declarations which local variables it may conflict with, and statements approximate
+ * the bytecode size a hook adds to a method.
+ *
+ * @param identifiers names the hook may refer to, excluding those in literals, comments and member selections
+ * @param declarations names the hook appears to declare, those following a type and followed by an initializer or
+ *     terminator, such as {@code long start = System.nanoTime();}
+ * @param statements approximate number of statements, counting statement terminators and block openings
+ */
+record HookCode(Set<String> identifiers, Set<String> declarations, long statements) {
+
+    // Keywords which may be followed by a name and a terminator without declaring it
+    private static final ImmutableSet<String> NOT_TYPES = ImmutableSet.of(
+            "assert",
+            "break",
+            "case",
+            "continue",
+            "default",
+            "do",
+            "else",
+            "instanceof",
+            "new",
+            "return",
+            "throw",
+            "yield");
+
+    static HookCode scan(CodeBlock code) {
+        String source = code.toString();
+        ImmutableSet.Builder<String> identifiers = ImmutableSet.builder();
+        ImmutableSet.Builder<String> declarations = ImmutableSet.builder();
+        long statements = 0;
+        boolean selected = false;
+        // The previous token, and a name which is declared if followed by an initializer or terminator
+        String previous = "";
+        String declared = null;
+        boolean afterType = false;
+        int i = 0;
+        while (i < source.length()) {
+            char current = source.charAt(i);
+            if (source.startsWith("//", i)) {
+                i = end(source, source.indexOf('\n', i), 1);
+            } else if (source.startsWith("/*", i)) {
+                i = end(source, source.indexOf("*/", i + 2), 2);
+            } else if (source.startsWith("\"\"\"", i)) {
+                i = endOfLiteral(source, i + 3, "\"\"\"");
+                previous = "\"";
+                declared = null;
+            } else if (current == '"' || current == '\'') {
+                i = endOfLiteral(source, i + 1, String.valueOf(current));
+                previous = String.valueOf(current);
+                declared = null;
+            } else if (Character.isJavaIdentifierStart(current) || Character.isDigit(current)) {
+                int start = i;
+                while (i < source.length() && Character.isJavaIdentifierPart(source.charAt(i))) {
+                    i++;
+                }
+                // Numeric literals such as 10L are skipped, as are names selected from another expression
+                String name = source.substring(start, i);
+                if (!Character.isDigit(current) && !selected) {
+                    identifiers.add(name);
+                }
+                // Declarations follow a type name, or the end of type arguments or array dimensions
+                afterType = isTypeName(previous);
+                declared = afterType || previous.equals(">") || previous.equals("]") ? name : null;
+                previous = name;
+                selected = false;
+            } else {
+                if (current == ';' || current == '{') {
+                    statements++;
+                }
+                if (!Character.isWhitespace(current)) {
+                    boolean assignment = current == '=' && !source.startsWith("==", i);
+                    if (declared != null && (assignment || (afterType && ";:,".indexOf(current) >= 0))) {
+                        declarations.add(declared);
+                    }
+                    declared = null;
+                    previous = String.valueOf(current);
+                    selected = current == '.';
+                }
+                i++;
+            }
+        }
+        return new HookCode(identifiers.build(), declarations.build(), statements);
+    }
+
+    private static boolean isTypeName(String token) {
+        return !token.isEmpty() && Character.isJavaIdentifierStart(token.charAt(0)) && !NOT_TYPES.contains(token);
+    }
+
+    private static int endOfLiteral(String source, int from, String terminator) {
+        int i = from;
+        while (i < source.length() && !source.startsWith(terminator, i)) {
+            i += source.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(i + terminator.length(), source.length());
+    }
+
+    private static int end(String source, int index, int length) {
+        return index < 0 ? source.length() : index + length;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the members guarding the strategy hooks of a wrapper, based on {@link ProcessorOptions#hooksToggle()} and
+ * {@link ProcessorOptions#hooksDisabledProperty()}. Guarded methods begin by forwarding directly to the delegate when
+ * hooks are disabled. Either way the guard is a constant to the JIT, so the branch not taken is removed. Methods
+ * sampled through {@link ProcessorOptions#sampleRate()} also forward directly when a call isn't sampled.
+ */
+final class HookGuard {
+
+    private static final String DISABLED_NAME = "HOOKS_DISABLED";
+    private static final String TOGGLE_CLASS_NAME = "Hooks";
+    private static final String ENABLED_NAME = "ENABLED";
+    private static final String IS_ENABLED_NAME = "IS_ENABLED";
+
+    private final CodeBlock disabled;
+    private final Optional<FieldSpec> field;
+    private final Optional<TypeSpec> type;
+
+    private HookGuard(CodeBlock disabled, Optional<FieldSpec> field, Optional<TypeSpec> type) {
+        this.disabled = disabled;
+        this.field = field;
+        this.type = type;
+    }
+
+    /** Returns a guard for the given wrapper, if the options require one and any of its methods has hooks. */
+    static Optional<HookGuard> create(
+            ClassName generatedClassName, List<MethodHooks> methodHooks, ProcessorOptions options) {
+        if ((!options.hooksToggle() && options.hooksDisabledProperty().isEmpty())
+                || methodHooks.stream().noneMatch(MethodHooks::hasHooks)) {
+            return Optional.empty();
+        }
+        if (!options.hooksToggle()) {
+            // Read once, the JIT folds the static final field and removes the hooks of disabled wrappers entirely
+            return Optional.of(new HookGuard(
+                    CodeBlock.of("$N", DISABLED_NAME),
+                    Optional.of(FieldSpec.builder(
+                                    TypeName.BOOLEAN, DISABLED_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                            .initializer(
+                                    "$T.getBoolean($S)",
+                                    Boolean.class,
+                                    options.hooksDisabledProperty().get())
+                            .build()),
+                    Optional.empty()));
+        }
+        ClassName className = generatedClassName.nestedClass(TOGGLE_CLASS_NAME);
+        return Optional.of(new HookGuard(
+                CodeBlock.of("!$T.isEnabled()", className),
+                Optional.empty(),
+                Optional.of(toggleType(
+                        generatedClassName,
+                        className,
+                        options.hooksDisabledProperty()
+                                .map(property -> CodeBlock.of("!$T.getBoolean($S)", Boolean.class, property))
+                                .orElseGet(() -> CodeBlock.of("true"))))));
+    }
+
+    /** Condition which holds when hooks are disabled. */
+    CodeBlock disabled() {
+        return disabled;
+    }
+
+    /**
+     * Returns the condition under which the given method skips its hooks and forwards directly to the delegate, if
+     * any. Sampled methods skip hooks unless {@link ThreadLocalRandom} picks the call, which doesn't allocate.
+     */
+    static Optional<CodeBlock> skipHooks(Optional<HookGuard> guard, MethodHooks hooks) {
+        if (!hooks.hasHooks()) {
+            return Optional.empty();
+        }
+        Stream<CodeBlock> conditions = Stream.concat(
+                guard.stream().map(HookGuard::disabled),
+                hooks.sampleRate() > 1
+                        ? Stream.of(CodeBlock.of(
+                                "$T.current().nextInt($L) != 0", ThreadLocalRandom.class, hooks.sampleRate()))
+                        : Stream.empty());
+        CodeBlock condition = conditions.collect(CodeBlock.joining(" || "));
+        return condition.isEmpty() ? Optional.empty() : Optional.of(condition);
+    }
+
+    void addTo(TypeSpec.Builder builder) {
+        field.ifPresent(builder::addField);
+        type.ifPresent(builder::addType);
+    }
+
+    /**
+     * The state is held by the target of a {@link MutableCallSite}, invoked through a {@code static final} handle. The
+     * JIT inlines the constant target of the call site, and deoptimizes dependent code when its target changes.
+     */
+    private static TypeSpec toggleType(ClassName generatedClassName, ClassName className, CodeBlock initiallyEnabled) {
+        return TypeSpec.classBuilder(className)
+                .addJavadoc("Enables and disables the strategy hooks of {@link $T} at runtime.\n", generatedClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addField(FieldSpec.builder(
+                                MutableCallSite.class, ENABLED_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(
+                                "new $T($T.constant(boolean.class, $L))",
+                                MutableCallSite.class,
+                                MethodHandles.class,
+                                initiallyEnabled)
+                        .build())
+                .addField(FieldSpec.builder(
+                                MethodHandle.class, IS_ENABLED_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$N.dynamicInvoker()", ENABLED_NAME)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("isEnabled")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(TypeName.BOOLEAN)
+                        .beginControlFlow("try")
+                        .addStatement("return (boolean) $N.invokeExact()", IS_ENABLED_NAME)
+                        .nextControlFlow("catch ($T throwable)", Throwable.class)
+                        .addStatement("throw new $T(throwable)", AssertionError.class)
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("setEnabled")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.SYNCHRONIZED)
+                        .addParameter(TypeName.BOOLEAN, "enabled")
+                        .addStatement(
+                                "$N.setTarget($T.constant(boolean.class, enabled))", ENABLED_NAME, MethodHandles.class)
+                        .addStatement(
+                                "$T.syncAll(new $T[] {$N})", MutableCallSite.class, MutableCallSite.class, ENABLED_NAME)
+                        .build())
+                .build();
+    }
+}
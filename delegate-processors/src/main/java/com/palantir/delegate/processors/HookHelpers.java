@@ -0,0 +1,252 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.delegate.processors.MethodHooks.Layer;
+import com.palantir.delegate.processors.ProcessorOptions.HookShape;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Moves strategy hook code out of wrapper methods into static helper methods of a nested class, so wrapper methods
+ * stay within JIT inlining thresholds and the JVM's method size limit, and the constants used by the hooks are held by
+ * the constant pool of the nested class rather than the wrapper's. Hooks are extracted from wrapper methods which
+ * exceed {@link ProcessorOptions#methodHookBudget()}. When the wrapper class exceeds
+ * {@link ProcessorOptions#classHookBudget()}, hooks which are identical across wrapper methods are extracted into a
+ * single shared helper. With {@link HookShape#HELPERS}, hooks are extracted from every wrapper method.
+ *
+ * <p>Only the hooks of strategies declaring {@link DelegateProcessorStrategy#movableHooks()} are extracted. Helpers
+ * are passed the parameters, state variables, result and throwable whose names appear in the hook.
+ */
+final class HookHelpers {
+
+    private static final String CLASS_NAME = "Helpers";
+    private static final HookHelpers NONE = new HookHelpers(Map.of(), Optional.empty());
+
+    private final Map<HookKey, CodeBlock> invocations;
+    private final Optional<TypeSpec> type;
+
+    private HookHelpers(Map<HookKey, CodeBlock> invocations, Optional<TypeSpec> type) {
+        this.invocations = invocations;
+        this.type = type;
+    }
+
+    static HookHelpers create(
+            ClassName generatedClassName,
+            List<TypeVariableName> typeVariables,
+            AnnotatedType annotatedType,
+            List<MethodHooks> methods,
+            ProcessorOptions options,
+            ProcessorContext context) {
+        boolean extractAll = options.hookShape() == HookShape.HELPERS;
+        long classSize = 0;
+        boolean anyOverMethodBudget = false;
+        for (MethodHooks method : methods) {
+            long size = method.size();
+            classSize += size;
+            anyOverMethodBudget |= extractAll || size > options.methodHookBudget();
+        }
+        boolean overClassBudget = classSize > options.classHookBudget();
+        if (!overClassBudget && !anyOverMethodBudget) {
+            return NONE;
+        }
+        ClassName className = generatedClassName.nestedClass(
+                Types.nestedClassName(CLASS_NAME, generatedClassName, annotatedType, context));
+
+        // Helpers are keyed by their unnamed declaration, so identical hooks share a helper
+        Map<String, List<HookKey>> helperHooks = new LinkedHashMap<>();
+        Map<String, MethodSpec.Builder> helperDeclarations = new LinkedHashMap<>();
+        Map<HookKey, Arguments> helperArguments = new HashMap<>();
+        for (MethodHooks method : methods) {
+            if (!(overClassBudget || extractAll || method.size() > options.methodHookBudget())) {
+                continue;
+            }
+            for (Layer layer : method.layers()) {
+                if (!layer.movable()) {
+                    continue;
+                }
+                for (Hook hook : Hook.values()) {
+                    Optional<CodeBlock> code = layer.hook(hook);
+                    if (code.isEmpty()) {
+                        continue;
+                    }
+                    Set<String> identifiers = layer.code(hook).identifiers();
+                    List<ParameterSpec> parameters = method.available(hook).stream()
+                            .filter(parameter -> identifiers.contains(parameter.name))
+                            .collect(Collectors.toList());
+                    List<TypeName> exceptions = method.signature().exceptions;
+                    List<TypeVariableName> helperTypeVariables =
+                            helperTypeVariables(typeVariables, method.signature(), parameters, identifiers);
+                    MethodSpec.Builder helper = MethodSpec.methodBuilder("_helper")
+                            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                            .addTypeVariables(helperTypeVariables)
+                            .addParameters(parameters)
+                            .addExceptions(exceptions)
+                            .addCode(code.get());
+                    String declaration = helper.build().toString();
+                    HookKey key = new HookKey(method, layer, hook);
+                    helperHooks
+                            .computeIfAbsent(declaration, _declaration -> new ArrayList<>())
+                            .add(key);
+                    helperDeclarations.putIfAbsent(declaration, helper);
+                    helperArguments.put(key, new Arguments(helperTypeVariables, parameters));
+                }
+            }
+        }
+
+        Map<HookKey, CodeBlock> invocations = new HashMap<>();
+        TypeSpec.Builder type = TypeSpec.classBuilder(className)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .build());
+        int helpers = 0;
+        for (Map.Entry<String, List<HookKey>> entry : helperHooks.entrySet()) {
+            // Under class pressure alone, extracting a hook used by a single method only adds an indirection.
+            boolean shared = entry.getValue().size() > 1;
+            List<HookKey> extracted = entry.getValue().stream()
+                    .filter(key -> shared || extractAll || key.method().size() > options.methodHookBudget())
+                    .collect(Collectors.toList());
+            if (extracted.isEmpty()) {
+                continue;
+            }
+            String name = "_" + extracted.get(0).hook().methodName() + helpers++;
+            type.addMethod(helperDeclarations.get(entry.getKey()).setName(name).build());
+            for (HookKey key : extracted) {
+                invocations.put(key, invocation(className, name, helperArguments.get(key)));
+            }
+        }
+        return helpers == 0 ? NONE : new HookHelpers(invocations, Optional.of(type.build()));
+    }
+
+    /** Returns the code to generate for the given hook, which may be an invocation of an extracted helper. */
+    Optional<CodeBlock> hook(MethodHooks method, Layer layer, Hook hook) {
+        CodeBlock invocation = invocations.get(new HookKey(method, layer, hook));
+        return invocation != null ? Optional.of(invocation) : layer.hook(hook);
+    }
+
+    /** The nested class holding the helpers, if any hooks were extracted. */
+    Optional<TypeSpec> type() {
+        return type;
+    }
+
+    private static CodeBlock invocation(ClassName className, String name, Arguments arguments) {
+        // Type arguments are explicit, type variables only used within the hook can't be inferred
+        return CodeBlock.builder()
+                .addStatement(
+                        "$T.$L$N($L)",
+                        className,
+                        arguments.typeVariables().isEmpty()
+                                ? ""
+                                : arguments.typeVariables().stream()
+                                        .map(variable -> variable.name)
+                                        .collect(Collectors.joining(", ", "<", ">")),
+                        name,
+                        arguments.parameters().stream()
+                                .map(parameter -> parameter.name)
+                                .collect(Collectors.joining(", ")))
+                .build();
+    }
+
+    /**
+     * Returns the type variables a static helper must declare: those of the wrapper and the wrapper method which are
+     * used by the helper's parameters, exceptions or code, and the type variables their bounds use in turn. Type
+     * variables of the method hide those of the wrapper with the same name.
+     */
+    private static List<TypeVariableName> helperTypeVariables(
+            List<TypeVariableName> wrapperTypeVariables,
+            MethodSpec signature,
+            List<ParameterSpec> parameters,
+            Set<String> identifiers) {
+        Map<String, TypeVariableName> inScope = new LinkedHashMap<>();
+        wrapperTypeVariables.forEach(variable -> inScope.put(variable.name, variable));
+        signature.typeVariables.forEach(variable -> {
+            inScope.remove(variable.name);
+            inScope.put(variable.name, variable);
+        });
+        Set<String> used = new HashSet<>(identifiers);
+        parameters.forEach(parameter -> addTypeVariables(parameter.type, used));
+        signature.exceptions.forEach(exception -> addTypeVariables(exception, used));
+        List<TypeVariableName> selected = new ArrayList<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (TypeVariableName variable : inScope.values()) {
+                if (used.contains(variable.name) && !selected.contains(variable)) {
+                    selected.add(variable);
+                    variable.bounds.forEach(bound -> addTypeVariables(bound, used));
+                    changed = true;
+                }
+            }
+        }
+        return inScope.values().stream().filter(selected::contains).collect(ImmutableList.toImmutableList());
+    }
+
+    private static void addTypeVariables(TypeName type, Set<String> names) {
+        if (type instanceof TypeVariableName) {
+            names.add(((TypeVariableName) type).name);
+        } else if (type instanceof ParameterizedTypeName) {
+            ((ParameterizedTypeName) type).typeArguments.forEach(argument -> addTypeVariables(argument, names));
+        } else if (type instanceof ArrayTypeName) {
+            addTypeVariables(((ArrayTypeName) type).componentType, names);
+        } else if (type instanceof WildcardTypeName) {
+            ((WildcardTypeName) type).upperBounds.forEach(bound -> addTypeVariables(bound, names));
+            ((WildcardTypeName) type).lowerBounds.forEach(bound -> addTypeVariables(bound, names));
+        }
+    }
+
+    enum Hook {
+        BEFORE("before"),
+        ON_SUCCESS("onSuccess"),
+        ON_FAILURE("onFailure"),
+        ALWAYS_AFTER("alwaysAfter");
+
+        private final String methodName;
+
+        Hook(String methodName) {
+            this.methodName = methodName;
+        }
+
+        String methodName() {
+            return methodName;
+        }
+    }
+
+    private record HookKey(MethodHooks method, Layer layer, Hook hook) {}
+
+    /** The type variables and variables a hook passes to its helper. */
+    private record Arguments(List<TypeVariableName> typeVariables, List<ParameterSpec> parameters) {}
+}
@@ -0,0 +1,177 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.palantir.delegate.processors.ProcessorTimings.Phase;
+import com.palantir.goethe.Goethe;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import javax.lang.model.element.Element;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+final class JavaFiles {
+
+    /** Creates a file for a generated top-level type, in the format shared by all generated files. */
+    static JavaFile create(String packageName, TypeSpec typeSpec) {
+        return JavaFile.builder(packageName, typeSpec)
+                .skipJavaLangImports(true)
+                .indent("    ")
+                .build();
+    }
+
+    /**
+     * Formats and writes the given files through the {@link javax.annotation.processing.Filer}, or writes them
+     * unformatted when {@link ProcessorOptions#fastEmit()} is enabled. When more than one formatter thread is
+     * requested, files are formatted concurrently and written on the calling thread in the order they're provided,
+     * producing the same output as serial formatting. The time spent formatting and writing each file is recorded in
+     * {@code timings}.
+     */
+    static void emit(
+            List<JavaFile> javaFiles, ProcessorContext context, ProcessorOptions options, ProcessorTimings timings) {
+        if (options.fastEmit()) {
+            for (JavaFile javaFile : javaFiles) {
+                try {
+                    timings.time(Phase.WRITE, javaFile, () -> {
+                        try {
+                            javaFile.writeTo(context.filer());
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return null;
+                    });
+                } catch (RuntimeException e) {
+                    reportFailure(javaFile, e, context);
+                }
+            }
+            return;
+        }
+        Optional<FormatCache> cache = options.formatCacheDirectory().flatMap(directory -> {
+            try {
+                return Optional.of(FormatCache.create(directory, options.formatCacheMaxBytes()));
+            } catch (IOException e) {
+                context.messager()
+                        .printMessage(Kind.NOTE, "Unable to use format cache directory '" + directory + "': " + e);
+                return Optional.empty();
+            }
+        });
+        Function<JavaFile, String> formatter = cache.<Function<JavaFile, String>>map(
+                        formatCache -> javaFile -> formatCache.format(javaFile, Goethe::formatAsString))
+                .orElse(Goethe::formatAsString);
+        emit(
+                javaFiles,
+                context,
+                options.formatterThreads(),
+                javaFile -> timings.time(Phase.FORMAT, javaFile, () -> formatter.apply(javaFile)),
+                timings);
+        cache.ifPresent(FormatCache::trim);
+    }
+
+    private static void emit(
+            List<JavaFile> javaFiles,
+            ProcessorContext context,
+            int formatterThreads,
+            Function<JavaFile, String> formatter,
+            ProcessorTimings timings) {
+        int threads = Math.min(formatterThreads, javaFiles.size());
+        if (threads <= 1) {
+            for (JavaFile javaFile : javaFiles) {
+                try {
+                    write(javaFile, formatter.apply(javaFile), context, timings);
+                } catch (RuntimeException e) {
+                    reportFailure(javaFile, e, context);
+                }
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+                threads,
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("delegate-processor-formatter-%d")
+                        .build());
+        try {
+            List<Future<String>> formatted = new ArrayList<>(javaFiles.size());
+            for (JavaFile javaFile : javaFiles) {
+                formatted.add(executor.submit(() -> formatter.apply(javaFile)));
+            }
+            for (int i = 0; i < javaFiles.size(); i++) {
+                JavaFile javaFile = javaFiles.get(i);
+                try {
+                    write(javaFile, formatted.get(i).get(), context, timings);
+                } catch (ExecutionException e) {
+                    reportFailure(javaFile, e.getCause(), context);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    reportFailure(javaFile, e, context);
+                    return;
+                } catch (RuntimeException e) {
+                    reportFailure(javaFile, e, context);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void write(JavaFile javaFile, String source, ProcessorContext context, ProcessorTimings timings) {
+        timings.time(Phase.WRITE, javaFile, () -> {
+            write(javaFile, source, context);
+            return null;
+        });
+    }
+
+    private static void write(JavaFile javaFile, String source, ProcessorContext context) {
+        String qualifiedName = javaFile.packageName.isEmpty()
+                ? javaFile.typeSpec.name
+                : javaFile.packageName + '.' + javaFile.typeSpec.name;
+        try {
+            JavaFileObject sourceFile = context.filer()
+                    .createSourceFile(qualifiedName, javaFile.typeSpec.originatingElements.toArray(new Element[0]));
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + qualifiedName, e);
+        }
+    }
+
+    private static void reportFailure(JavaFile javaFile, Throwable failure, ProcessorContext context) {
+        context.messager()
+                .printMessage(
+                        Kind.ERROR,
+                        "Failed to write class '" + javaFile.typeSpec.name + "': "
+                                + Throwables.getStackTraceAsString(failure),
+                        Iterables.getFirst(javaFile.typeSpec.originatingElements, null));
+    }
+
+    private JavaFiles() {}
+}
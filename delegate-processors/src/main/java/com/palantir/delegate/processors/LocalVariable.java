@@ -26,6 +26,11 @@ public interface LocalVariable {
 
     String name();
 
+    /** Returns true if this variable holds a primitive value, which may be used without boxing. */
+    default boolean isPrimitive() {
+        return type().isPrimitive();
+    }
+
     static ImmutableLocalVariable.TypeBuildStage builder() {
         return ImmutableLocalVariable.builder();
     }
@@ -0,0 +1,51 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import org.immutables.value.Value;
+
+/**
+ * A constant generated for a forwarded method when its strategy requests
+ * {@link DelegateProcessorStrategy#methodDescriptors() method descriptors}. The constant is a
+ * {@code private static final} field of a nested {@link #type()} of the generated type, initialized on first use,
+ * with {@code int id()}, {@code String name()} and {@code List<Class<?>> parameterTypes()} accessors.
+ */
+@Value.Immutable
+@ImmutablesStyle
+public interface MethodDescriptor {
+
+    /**
+     * Dense id of the method, its index in {@link AnnotatedType#methods()}. Ids range from zero to the number of
+     * methods, so per-method state may be held in flat arrays indexed by the id, embedded in hook code as a literal.
+     */
+    int id();
+
+    /** Expression referencing the descriptor constant, for example {@code MethodDescriptor.GREET}. */
+    CodeBlock reference();
+
+    /**
+     * Nested class of the generated type declaring the descriptor constants, usually named {@code MethodDescriptor}.
+     * Its name is only suffixed when a type visible in the generated type already uses that name.
+     */
+    ClassName type();
+
+    static ImmutableMethodDescriptor.IdBuildStage builder() {
+        return ImmutableMethodDescriptor.builder();
+    }
+}
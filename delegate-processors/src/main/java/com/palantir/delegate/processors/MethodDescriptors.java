@@ -0,0 +1,141 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.ImmutableList;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the nested class holding {@link MethodDescriptor} constants. Constants are held by a nested class rather
+ * than the generated type itself, so they're only initialized once a hook first uses them. The class is named
+ * {@value #CLASS_NAME}, followed by underscores when the name is already used by a type visible in the generated type.
+ */
+final class MethodDescriptors {
+
+    private static final String CLASS_NAME = "MethodDescriptor";
+    private static final TypeName PARAMETER_TYPES = ParameterizedTypeName.get(
+            ClassName.get(List.class),
+            ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)));
+
+    private final List<MethodDescriptor> descriptors;
+    private final TypeSpec type;
+
+    private MethodDescriptors(List<MethodDescriptor> descriptors, TypeSpec type) {
+        this.descriptors = descriptors;
+        this.type = type;
+    }
+
+    static MethodDescriptors create(
+            ClassName generatedClassName, AnnotatedType annotatedType, ProcessorContext context) {
+        ClassName className = generatedClassName.nestedClass(
+                Types.nestedClassName(CLASS_NAME, generatedClassName, annotatedType, context));
+        TypeSpec.Builder type =
+                TypeSpec.classBuilder(className).addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+        ImmutableList.Builder<MethodDescriptor> descriptors = ImmutableList.builder();
+        List<AnnotatedTypeMethod> methods = annotatedType.methods();
+        Set<String> overloaded = overloadedNames(methods);
+        Set<String> constantNames = new HashSet<>();
+        for (int id = 0; id < methods.size(); id++) {
+            ExecutableElement method = methods.get(id).implementation();
+            String name = method.getSimpleName().toString();
+            String constantName = CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, name);
+            if (overloaded.contains(name) || !constantNames.add(constantName)) {
+                constantName = constantName + '_' + id;
+                constantNames.add(constantName);
+            }
+            type.addField(FieldSpec.builder(className, constantName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(
+                            "new $T($L, $S, $T.of($L))",
+                            className,
+                            id,
+                            name,
+                            List.class,
+                            method.getParameters().stream()
+                                    .map(parameter -> CodeBlock.of(
+                                            "$T.class",
+                                            TypeName.get(context.types().erasure(parameter.asType()))))
+                                    .collect(CodeBlock.joining(", ")))
+                    .build());
+            descriptors.add(MethodDescriptor.builder()
+                    .id(id)
+                    .reference(CodeBlock.of("$T.$N", className, constantName))
+                    .type(className)
+                    .build());
+        }
+        type.addField(TypeName.INT, "id", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(String.class, "name", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(PARAMETER_TYPES, "parameterTypes", Modifier.PRIVATE, Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(TypeName.INT, "id")
+                        .addParameter(String.class, "name")
+                        .addParameter(PARAMETER_TYPES, "parameterTypes")
+                        .addStatement("this.id = id")
+                        .addStatement("this.name = name")
+                        .addStatement("this.parameterTypes = parameterTypes")
+                        .build())
+                .addMethod(accessor(TypeName.INT, "id"))
+                .addMethod(accessor(ClassName.get(String.class), "name"))
+                .addMethod(accessor(PARAMETER_TYPES, "parameterTypes"))
+                .addMethod(MethodSpec.methodBuilder("toString")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addStatement("return name + parameterTypes")
+                        .build());
+        return new MethodDescriptors(descriptors.build(), type.build());
+    }
+
+    /** Descriptors of the methods of the annotated type, indexed by id. */
+    List<MethodDescriptor> descriptors() {
+        return descriptors;
+    }
+
+    TypeSpec type() {
+        return type;
+    }
+
+    private static MethodSpec accessor(TypeName type, String name) {
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(type)
+                .addStatement("return $N", name)
+                .build();
+    }
+
+    private static Set<String> overloadedNames(List<AnnotatedTypeMethod> methods) {
+        Set<String> names = new HashSet<>();
+        return methods.stream()
+                .map(method -> method.implementation().getSimpleName().toString())
+                .filter(name -> !names.add(name))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.delegate.processors.DelegateProcessorStrategy.DelegateMethodArguments;
+import com.palantir.delegate.processors.HookHelpers.Hook;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * The signature of a generated wrapper method, and the hooks a strategy provided for it. The strategies fused by a
+ * {@link CompositeStrategy} each provide a {@link Layer} of hooks, outermost first.
+ */
+final class MethodHooks {
+
+    static final LocalVariable THROWABLE = LocalVariable.builder()
+            .type(ClassName.get(Throwable.class))
+            .name("_throwable")
+            .build();
+
+    private final DelegateMethodArguments arguments;
+    private final MethodSpec signature;
+    private final List<StateVariable> state;
+    private final Optional<LocalVariable> result;
+    private final List<Layer> layers;
+    private final int sampleRate;
+    private final long size;
+
+    private MethodHooks(
+            DelegateMethodArguments arguments,
+            MethodSpec signature,
+            List<StateVariable> state,
+            Optional<LocalVariable> result,
+            List<Layer> layers,
+            int sampleRate) {
+        this.arguments = arguments;
+        this.signature = signature;
+        this.state = state;
+        this.result = result;
+        this.layers = layers;
+        this.sampleRate = sampleRate;
+        this.size = layers.stream()
+                .flatMap(layer -> layer.code.values().stream())
+                .mapToLong(HookCode::statements)
+                .sum();
+    }
+
+    static MethodHooks create(
+            DelegateProcessorStrategy strategy,
+            DelegateMethodArguments methodArguments,
+            MethodIndex index,
+            ProcessorOptions options) {
+        MethodSpec signature = Methods.createMethod(methodArguments, index).build();
+        // Parameters are resolved along with the signature, hooks are given arguments including them
+        DelegateMethodArguments arguments = DelegateMethodArguments.builder()
+                .context(methodArguments.context())
+                .type(methodArguments.type())
+                .method(methodArguments.method())
+                .delegate(methodArguments.delegate())
+                .descriptor(methodArguments.descriptor())
+                .addAllParameters(signature.parameters.stream()
+                        .map(parameter -> LocalVariable.builder()
+                                .type(parameter.type)
+                                .name(parameter.name)
+                                .build())
+                        .collect(ImmutableList.toImmutableList()))
+                .build();
+        Optional<LocalVariable> result = Methods.isVoid(arguments.method(), arguments.context())
+                ? Optional.empty()
+                : Optional.of(LocalVariable.builder()
+                        .type(signature.returnType)
+                        .name("_result")
+                        .build());
+        if (!Methods.isHooked(strategy, arguments)) {
+            return new MethodHooks(arguments, signature, List.of(), result, List.of(), 1);
+        }
+        List<DelegateProcessorStrategy> layerStrategies = strategy instanceof CompositeStrategy
+                ? ((CompositeStrategy) strategy).layers(arguments)
+                : List.of(strategy);
+        List<StateVariable> state = strategy.state(arguments);
+        if (!state.isEmpty()) {
+            arguments = DelegateMethodArguments.builder()
+                    .context(arguments.context())
+                    .type(arguments.type())
+                    .method(arguments.method())
+                    .delegate(arguments.delegate())
+                    .descriptor(arguments.descriptor())
+                    .addAllParameters(arguments.parameters())
+                    .addAllState(state.stream().map(StateVariable::variable).collect(ImmutableList.toImmutableList()))
+                    .build();
+        }
+        ImmutableList.Builder<Layer> layers = ImmutableList.builder();
+        for (DelegateProcessorStrategy layerStrategy : layerStrategies) {
+            Map<Hook, CodeBlock> hooks = new EnumMap<>(Hook.class);
+            layerStrategy.before(arguments).ifPresent(code -> hooks.put(Hook.BEFORE, code));
+            layerStrategy.onFailure(arguments, THROWABLE).ifPresent(code -> hooks.put(Hook.ON_FAILURE, code));
+            layerStrategy.alwaysAfter(arguments).ifPresent(code -> hooks.put(Hook.ALWAYS_AFTER, code));
+            layerStrategy.onSuccess(arguments, result).ifPresent(code -> hooks.put(Hook.ON_SUCCESS, code));
+            if (!hooks.isEmpty()) {
+                layers.add(new Layer(hooks, layerStrategy.movableHooks()));
+            }
+        }
+        MethodHooks methodHooks = new MethodHooks(
+                arguments, signature, state, result, layers.build(), sampleRate(strategy, arguments, options));
+        methodHooks.checkDeclarations();
+        return methodHooks;
+    }
+
+    DelegateMethodArguments arguments() {
+        return arguments;
+    }
+
+    /** The generated method without a body. */
+    MethodSpec signature() {
+        return signature;
+    }
+
+    /** Per-call state variables, declared ahead of every hook. */
+    List<StateVariable> state() {
+        return state;
+    }
+
+    /** The variable holding the delegate result, absent for void methods. */
+    Optional<LocalVariable> result() {
+        return result;
+    }
+
+    /** Hooks of each strategy providing any, outermost first. Each layer is generated within the previous one. */
+    List<Layer> layers() {
+        return layers;
+    }
+
+    /** Variables in scope where the given hook is generated, which may be passed to an extracted helper. */
+    List<ParameterSpec> available(Hook hook) {
+        ImmutableList.Builder<ParameterSpec> available =
+                ImmutableList.<ParameterSpec>builder().addAll(signature.parameters);
+        state.forEach(variable -> available.add(
+                ParameterSpec.builder(variable.type(), variable.name()).build()));
+        if (hook == Hook.ON_SUCCESS) {
+            result.ifPresent(variable -> available.add(
+                    ParameterSpec.builder(variable.type(), variable.name()).build()));
+        } else if (hook == Hook.ON_FAILURE) {
+            available.add(
+                    ParameterSpec.builder(THROWABLE.type(), THROWABLE.name()).build());
+        }
+        return available.build();
+    }
+
+    /** Hooks and state run for one in this many calls. */
+    int sampleRate() {
+        return sampleRate;
+    }
+
+    /** Returns true if the strategy provided any hooks or state for this method. */
+    boolean hasHooks() {
+        return !layers.isEmpty() || !state.isEmpty();
+    }
+
+    /** Approximate size of the hook code in this method, measured in statements. */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Reports local variables declared by the hooks of more than one layer, which share the scope of the generated
+     * method as inner layers are nested within outer layers.
+     */
+    private void checkDeclarations() {
+        Set<String> declared = new HashSet<>();
+        for (Layer layer : layers) {
+            Set<String> layerDeclarations = layer.code.values().stream()
+                    .flatMap(code -> code.declarations().stream())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            for (String name : layerDeclarations) {
+                if (!declared.add(name)) {
+                    arguments
+                            .context()
+                            .messager()
+                            .printMessage(
+                                    Kind.ERROR,
+                                    "Composed strategies declare more than one local variable named '" + name
+                                            + "' in method '"
+                                            + arguments
+                                                    .method()
+                                                    .implementation()
+                                                    .getSimpleName() + "'",
+                                    arguments.type().originatingElement());
+                }
+            }
+        }
+    }
+
+    private static int sampleRate(
+            DelegateProcessorStrategy strategy, DelegateMethodArguments arguments, ProcessorOptions options) {
+        OptionalInt sampleRate = strategy.sampleRate(arguments);
+        if (sampleRate.isEmpty()) {
+            return options.sampleRate();
+        }
+        if (sampleRate.getAsInt() < 1) {
+            arguments
+                    .context()
+                    .messager()
+                    .printMessage(
+                            Kind.ERROR,
+                            "Expected a positive sample rate for method '"
+                                    + arguments.method().implementation().getSimpleName() + "', found: "
+                                    + sampleRate.getAsInt(),
+                            arguments.type().originatingElement());
+            return 1;
+        }
+        return sampleRate.getAsInt();
+    }
+
+    /** The hooks a single strategy provided for the method. */
+    static final class Layer {
+        private final Map<Hook, CodeBlock> hooks;
+        private final Map<Hook, HookCode> code = new EnumMap<>(Hook.class);
+        private final boolean movable;
+
+        private Layer(Map<Hook, CodeBlock> hooks, boolean movable) {
+            this.hooks = hooks;
+            this.movable = movable;
+            hooks.forEach((hook, block) -> code.put(hook, HookCode.scan(block)));
+        }
+
+        Optional<CodeBlock> hook(Hook hook) {
+            return Optional.ofNullable(hooks.get(hook));
+        }
+
+        /** Lexical summary of the given hook, which must be present. */
+        HookCode code(Hook hook) {
+            return code.get(hook);
+        }
+
+        /** Returns true if the strategy allows its hooks to be moved into helper methods. */
+        boolean movable() {
+            return movable;
+        }
+
+        /** Returns true if the layer's hooks run within a {@code try} block. */
+        boolean requiresTry() {
+            return hooks.containsKey(Hook.ON_FAILURE) || hooks.containsKey(Hook.ALWAYS_AFTER);
+        }
+    }
+}
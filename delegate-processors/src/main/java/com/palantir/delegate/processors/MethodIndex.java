@@ -0,0 +1,200 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.auto.common.MoreElements;
+import com.google.auto.common.MoreTypes;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimaps;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Memoizes method resolution for the duration of a processing round. Interface hierarchies are commonly shared by
+ * many annotated types, so methods are indexed by declaring type and by name and arity, and the interface methods
+ * overridden by each interface method are resolved at most once.
+ */
+final class MethodIndex {
+
+    private final ProcessorContext context;
+    private final TypeElement object;
+    private final Map<TypeElement, ImmutableListMultimap<MethodKey, ExecutableElement>> declaredMethods =
+            new HashMap<>();
+    private final Map<ExecutableElement, ImmutableSet<ExecutableElement>> interfaceMethods = new HashMap<>();
+    private final Map<AnnotatedTypeMethod, ExecutableElement> contractMethods = new HashMap<>();
+    private final Map<MemberKey, ExecutableType> memberTypes = new HashMap<>();
+
+    private MethodIndex(ProcessorContext context) {
+        this.context = context;
+        this.object = context.elements().getTypeElement(Object.class.getName());
+    }
+
+    static MethodIndex create(ProcessorContext context) {
+        return new MethodIndex(context);
+    }
+
+    boolean isObjectMethod(ExecutableElement methodElement) {
+        for (ExecutableElement objectMethod : declaredMethods(object, methodElement)) {
+            if (context.elements().overrides(methodElement, objectMethod, object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the interface methods which are overridden by {@code methodElement}, in the order they're encountered
+     * walking the interface hierarchy depth first. Interface methods include themselves.
+     */
+    Set<ExecutableElement> getInterfaceMethods(ExecutableElement methodElement) {
+        TypeElement enclosing = (TypeElement) methodElement.getEnclosingElement();
+        if (enclosing.getKind() == ElementKind.INTERFACE) {
+            return getOverriddenInterfaceMethods(methodElement);
+        }
+        Set<ExecutableElement> results = new LinkedHashSet<>();
+        Set<TypeElement> visited = new HashSet<>();
+        for (TypeMirror interfaceMirror : enclosing.getInterfaces()) {
+            collectInterfaceMethods(interfaceMirror, methodElement, enclosing, visited, results);
+        }
+        return results;
+    }
+
+    // Returns the most specific interface method if possible. If the method signature is provided by
+    // multiple interfaces, the implementation element is returned instead.
+    ExecutableElement findContractMethod(AnnotatedTypeMethod annotatedTypeMethod) {
+        ExecutableElement existing = contractMethods.get(annotatedTypeMethod);
+        if (existing != null) {
+            return existing;
+        }
+        ExecutableElement contractMethod = computeContractMethod(annotatedTypeMethod);
+        contractMethods.put(annotatedTypeMethod, contractMethod);
+        return contractMethod;
+    }
+
+    /** Returns the type of {@code method} when viewed as a member of the parameterized {@code type}. */
+    ExecutableType asMemberOf(TypeElement type, ExecutableElement method) {
+        MemberKey key = new MemberKey(type, method);
+        ExecutableType existing = memberTypes.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        DeclaredType declaredType = context.types()
+                .getDeclaredType(
+                        type,
+                        type.getTypeParameters().stream()
+                                .map(TypeParameterElement::asType)
+                                .toArray(TypeMirror[]::new));
+        ExecutableType executableType = (ExecutableType) context.types().asMemberOf(declaredType, method);
+        memberTypes.put(key, executableType);
+        return executableType;
+    }
+
+    private ExecutableElement computeContractMethod(AnnotatedTypeMethod annotatedTypeMethod) {
+        List<ExecutableElement> overridden = annotatedTypeMethod.overridden();
+        if (overridden.size() == 1) {
+            return overridden.get(0);
+        }
+        for (ExecutableElement element : overridden) {
+            ExecutableType executableType = (ExecutableType) element.asType();
+            boolean allMatch = true;
+            for (ExecutableElement potential : overridden) {
+                if (potential == element) {
+                    continue;
+                }
+                if (!context.types().isSubsignature(executableType, (ExecutableType) potential.asType())) {
+                    allMatch = false;
+                    break;
+                }
+            }
+            if (allMatch) {
+                return element;
+            }
+        }
+        return annotatedTypeMethod.implementation();
+    }
+
+    private ImmutableSet<ExecutableElement> getOverriddenInterfaceMethods(ExecutableElement interfaceMethod) {
+        // Not computeIfAbsent: resolution recursively populates the map.
+        ImmutableSet<ExecutableElement> existing = interfaceMethods.get(interfaceMethod);
+        if (existing != null) {
+            return existing;
+        }
+        TypeElement enclosing = (TypeElement) interfaceMethod.getEnclosingElement();
+        Set<ExecutableElement> results = new LinkedHashSet<>();
+        results.add(interfaceMethod);
+        Set<TypeElement> visited = new HashSet<>();
+        for (TypeMirror interfaceMirror : enclosing.getInterfaces()) {
+            collectInterfaceMethods(interfaceMirror, interfaceMethod, enclosing, visited, results);
+        }
+        ImmutableSet<ExecutableElement> resolved = ImmutableSet.copyOf(results);
+        interfaceMethods.put(interfaceMethod, resolved);
+        return resolved;
+    }
+
+    private void collectInterfaceMethods(
+            TypeMirror interfaceMirror,
+            ExecutableElement methodElement,
+            TypeElement methodType,
+            Set<TypeElement> visited,
+            Set<ExecutableElement> results) {
+        TypeElement interfaceElement = MoreTypes.asTypeElement(interfaceMirror);
+        if (!visited.add(interfaceElement)) {
+            // Diamond hierarchies reach the same interface through multiple paths, which cannot add new results.
+            return;
+        }
+        for (ExecutableElement interfaceMethod : declaredMethods(interfaceElement, methodElement)) {
+            // Methods which have already been collected include everything they override.
+            if (!results.contains(interfaceMethod)
+                    && MoreElements.overrides(methodElement, interfaceMethod, methodType, context.types())) {
+                results.addAll(getOverriddenInterfaceMethods(interfaceMethod));
+            }
+        }
+        for (TypeMirror superInterfaceMirror : interfaceElement.getInterfaces()) {
+            collectInterfaceMethods(superInterfaceMirror, methodElement, methodType, visited, results);
+        }
+    }
+
+    /** Returns methods declared by {@code type} which may be overridden by {@code method}. */
+    private List<ExecutableElement> declaredMethods(TypeElement type, ExecutableElement method) {
+        return declaredMethods
+                .computeIfAbsent(
+                        type, key -> Multimaps.index(ElementFilter.methodsIn(key.getEnclosedElements()), MethodKey::of))
+                .get(MethodKey.of(method));
+    }
+
+    private record MethodKey(String name, int arity) {
+        static MethodKey of(ExecutableElement method) {
+            return new MethodKey(
+                    method.getSimpleName().toString(), method.getParameters().size());
+        }
+    }
+
+    private record MemberKey(TypeElement type, ExecutableElement method) {}
+}
@@ -17,7 +17,6 @@
 package com.palantir.delegate.processors;
 
 import com.google.auto.common.MoreElements;
-import com.google.auto.common.MoreTypes;
 import com.palantir.delegate.processors.DelegateProcessorStrategy.DelegateMethodArguments;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.CodeBlock;
@@ -25,23 +24,17 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
-import javax.lang.model.element.Element;
-import javax.lang.model.element.ElementKind;
+import java.util.stream.Stream;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
-import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.element.VariableElement;
-import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.ExecutableType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
-import javax.lang.model.util.Elements;
 
 final class Methods {
 
@@ -52,21 +45,34 @@ final class Methods {
                         method.implementation().getReturnType());
     }
 
+    /**
+     * Returns true if the given strategy generates hooks for the method, taking both
+     * {@link DelegateProcessorStrategy#excludedAnnotations()} and
+     * {@link DelegateProcessorStrategy#hooked(DelegateMethodArguments)} into account.
+     */
+    static boolean isHooked(DelegateProcessorStrategy strategy, DelegateMethodArguments arguments) {
+        Set<String> excludedAnnotations = strategy.excludedAnnotations();
+        if (!excludedAnnotations.isEmpty()) {
+            AnnotatedTypeMethod method = arguments.method();
+            boolean excluded = Stream.concat(Stream.of(method.implementation()), method.overridden().stream())
+                    .flatMap(element -> element.getAnnotationMirrors().stream())
+                    .anyMatch(annotation -> excludedAnnotations.contains(
+                            MoreElements.asType(annotation.getAnnotationType().asElement())
+                                    .getQualifiedName()
+                                    .toString()));
+            if (excluded) {
+                return false;
+            }
+        }
+        return strategy.hooked(arguments);
+    }
+
     // TODO(ckozak): Must relax types from concrete implementations to match the union of implemented interfaces.
     //   For example `Object foo() throws IOException` may be overridden `UUID foo() throws FileNotFoundException`.
-    static MethodSpec.Builder createMethod(DelegateMethodArguments arguments) {
+    static MethodSpec.Builder createMethod(DelegateMethodArguments arguments, MethodIndex index) {
         ExecutableElement implementationMethod = arguments.method().implementation();
-        ExecutableElement method = findContractMethod(arguments.method(), arguments.context());
-        DeclaredType declaredType = arguments
-                .context()
-                .types()
-                .getDeclaredType(
-                        arguments.type().type(),
-                        arguments.type().type().getTypeParameters().stream()
-                                .map(TypeParameterElement::asType)
-                                .toArray(TypeMirror[]::new));
-        ExecutableType executableType =
-                (ExecutableType) arguments.context().types().asMemberOf(declaredType, method);
+        ExecutableElement method = index.findContractMethod(arguments.method());
+        ExecutableType executableType = index.asMemberOf(arguments.type().type(), method);
         List<? extends TypeMirror> resolvedParameterTypes = executableType.getParameterTypes();
         List<? extends TypeMirror> resolvedThrownTypes = executableType.getThrownTypes();
         TypeMirror resolvedReturnType = executableType.getReturnType();
@@ -108,8 +114,8 @@ final class Methods {
         return builder;
     }
 
-    static CodeBlock delegateInvocation(DelegateMethodArguments arguments) {
-        ExecutableElement contractMethod = findContractMethod(arguments.method(), arguments.context());
+    static CodeBlock delegateInvocation(DelegateMethodArguments arguments, MethodIndex index) {
+        ExecutableElement contractMethod = index.findContractMethod(arguments.method());
         return CodeBlock.of(
                 "this.$N.$L($L)",
                 arguments.delegate(),
@@ -119,89 +125,5 @@ final class Methods {
                         .collect(CodeBlock.joining(",")));
     }
 
-    // Returns the most specific interface method if possible. If the method signature is provided by
-    // multiple interfaces, the implementation element is returned instead.
-    private static ExecutableElement findContractMethod(
-            AnnotatedTypeMethod annotatedTypeMethod, ProcessorContext context) {
-        List<ExecutableElement> overridden = annotatedTypeMethod.overridden();
-        if (overridden.size() == 1) {
-            return overridden.get(0);
-        }
-        for (ExecutableElement element : overridden) {
-            ExecutableType executableType = (ExecutableType) element.asType();
-            boolean allMatch = true;
-            for (ExecutableElement potential : overridden) {
-                if (potential == element) {
-                    continue;
-                }
-                if (!context.types().isSubsignature(executableType, (ExecutableType) potential.asType())) {
-                    allMatch = false;
-                    break;
-                }
-            }
-            if (allMatch) {
-                return element;
-            }
-        }
-        return annotatedTypeMethod.implementation();
-    }
-
-    static boolean isObjectMethod(Elements elements, ExecutableElement methodElement) {
-        TypeElement object = elements.getTypeElement(Object.class.getName());
-        for (Element element : object.getEnclosedElements()) {
-            if (element instanceof ExecutableElement) {
-                ExecutableElement executableElement = (ExecutableElement) element;
-                if (elements.overrides(methodElement, executableElement, object)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    static Set<ExecutableElement> getInterfaceMethods(ExecutableElement methodElement, ProcessorContext context) {
-        Set<ExecutableElement> methods = new LinkedHashSet<>();
-        collectInterfaceMethods(methodElement, context, methods::add);
-        return methods;
-    }
-
-    private static void collectInterfaceMethods(
-            ExecutableElement methodElement, ProcessorContext context, Predicate<ExecutableElement> results) {
-        TypeElement enclosing = (TypeElement) methodElement.getEnclosingElement();
-        if (enclosing.getKind() == ElementKind.INTERFACE) {
-            if (!results.test(methodElement)) {
-                // Already done
-                return;
-            }
-        }
-        for (TypeMirror interfaceMirror : enclosing.getInterfaces()) {
-            collectInterfaceMethods(interfaceMirror, methodElement, context, results);
-        }
-    }
-
-    private static void collectInterfaceMethods(
-            TypeMirror interfaceMirror,
-            ExecutableElement methodElement,
-            ProcessorContext context,
-            Predicate<ExecutableElement> results) {
-        TypeElement interfaceElement = MoreTypes.asTypeElement(interfaceMirror);
-        for (Element element : interfaceElement.getEnclosedElements()) {
-            if (element.getKind() != ElementKind.METHOD) {
-                continue;
-            }
-            ExecutableElement interfaceMethod = (ExecutableElement) element;
-            if (MoreElements.overrides(
-                    methodElement,
-                    interfaceMethod,
-                    (TypeElement) methodElement.getEnclosingElement(),
-                    context.types())) {
-                collectInterfaceMethods(interfaceMethod, context, results);
-            }
-        }
-        for (TypeMirror superInterfaceMirror : interfaceElement.getInterfaces()) {
-            collectInterfaceMethods(superInterfaceMirror, methodElement, context, results);
-        }
-    }
-
     private Methods() {}
 }
@@ -16,6 +16,8 @@
 
 package com.palantir.delegate.processors;
 
+import com.google.common.base.Strings;
+import java.util.Map;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -35,12 +37,19 @@ public interface ProcessorContext {
 
     Types types();
 
+    /**
+     * Processor options provided to javac as {@code -Akey=value}. Options provided without a value map to an empty
+     * string. Strategies must declare the options they read via {@link DelegateProcessorStrategy#supportedOptions()}.
+     */
+    Map<String, String> options();
+
     static ProcessorContext create(ProcessingEnvironment processingEnv) {
-        return ImmutableProcessorContext.builder()
+        ImmutableProcessorContext.BuildFinal builder = ImmutableProcessorContext.builder()
                 .messager(processingEnv.getMessager())
                 .filer(processingEnv.getFiler())
                 .elements(processingEnv.getElementUtils())
-                .types(processingEnv.getTypeUtils())
-                .build();
+                .types(processingEnv.getTypeUtils());
+        processingEnv.getOptions().forEach((key, value) -> builder.putOptions(key, Strings.nullToEmpty(value)));
+        return builder.build();
     }
 }
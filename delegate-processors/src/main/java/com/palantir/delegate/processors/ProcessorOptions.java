@@ -0,0 +1,370 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.primitives.Ints;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import javax.annotation.processing.Messager;
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic.Kind;
+import org.immutables.value.Value;
+
+/** Options supported by every {@link DelegateProcessor}, provided to javac as {@code -Akey=value}. */
+@Value.Immutable
+@ImmutablesStyle
+interface ProcessorOptions {
+
+    String FORMATTER_THREADS = "delegate.processors.formatterThreads";
+    String FORMAT_CACHE_DIRECTORY = "delegate.processors.formatCacheDirectory";
+    String FORMAT_CACHE_MAX_BYTES = "delegate.processors.formatCacheMaxBytes";
+    String FAST_EMIT = "delegate.processors.fastEmit";
+    String TIMINGS = "delegate.processors.timings";
+    String TIMINGS_REPORT = "delegate.processors.timingsReport";
+    String TIMINGS_SLOWEST_TYPES = "delegate.processors.timingsSlowestTypes";
+    String METHOD_HOOK_BUDGET = "delegate.processors.methodHookBudget";
+    String CLASS_HOOK_BUDGET = "delegate.processors.classHookBudget";
+    String HOOK_SHAPE = "delegate.processors.hookShape";
+    String CONCRETE_DELEGATE = "delegate.processors.concreteDelegate";
+    String HOOKS_DISABLED_PROPERTY = "delegate.processors.hooksDisabledProperty";
+    String HOOKS_TOGGLE = "delegate.processors.hooksToggle";
+    String SAMPLE_RATE = "delegate.processors.sampleRate";
+    String NULL_CHECK_MESSAGES = "delegate.processors.nullCheckMessages";
+    String REGISTRY = "delegate.processors.registry";
+    String SHARE_WRAPPERS = "delegate.processors.shareWrappers";
+
+    Set<String> SUPPORTED = Set.of(
+            FORMATTER_THREADS,
+            FORMAT_CACHE_DIRECTORY,
+            FORMAT_CACHE_MAX_BYTES,
+            FAST_EMIT,
+            TIMINGS,
+            TIMINGS_REPORT,
+            TIMINGS_SLOWEST_TYPES,
+            METHOD_HOOK_BUDGET,
+            CLASS_HOOK_BUDGET,
+            HOOK_SHAPE,
+            CONCRETE_DELEGATE,
+            HOOKS_DISABLED_PROPERTY,
+            HOOKS_TOGGLE,
+            SAMPLE_RATE,
+            NULL_CHECK_MESSAGES,
+            REGISTRY,
+            SHARE_WRAPPERS);
+
+    /**
+     * Writes generated sources as produced by JavaPoet without formatting them, for local and IDE builds where the
+     * generated code isn't read.
+     */
+    @Value.Default
+    default boolean fastEmit() {
+        return false;
+    }
+
+    /**
+     * Number of threads used to format generated sources. By default sources are formatted serially on the compiler
+     * thread, larger values format all sources generated in a round concurrently before writing them in order.
+     */
+    @Value.Default
+    default int formatterThreads() {
+        return 1;
+    }
+
+    /**
+     * Directory used to cache formatted sources across compilations, keyed by the unformatted source. The directory
+     * may be shared by concurrent compilations. Sources are not cached by default.
+     */
+    Optional<Path> formatCacheDirectory();
+
+    /** Size bound of the {@link #formatCacheDirectory()}, beyond which least recently used entries are evicted. */
+    @Value.Default
+    default long formatCacheMaxBytes() {
+        return 128L * 1024 * 1024;
+    }
+
+    /** Reports the time spent in each processing phase as a note once processing is over. */
+    @Value.Default
+    default boolean timings() {
+        return false;
+    }
+
+    /**
+     * Name of a JSON report of the time spent in each processing phase, written relative to the class output directory
+     * once processing is over.
+     */
+    Optional<String> timingsReport();
+
+    /** Number of the slowest annotated types included in timing reports. */
+    @Value.Default
+    default int timingsSlowestTypes() {
+        return 10;
+    }
+
+    /**
+     * Approximate number of statements of strategy hook code a single wrapper method may contain before its movable
+     * hooks are moved into static helper methods, keeping wrapper methods small enough to be inlined.
+     */
+    @Value.Default
+    default long methodHookBudget() {
+        return 25;
+    }
+
+    /**
+     * Approximate number of statements of strategy hook code a wrapper class may contain before movable hooks which
+     * are identical across wrapper methods are moved into shared static helper methods, whose constants are held by a
+     * nested class rather than the wrapper.
+     */
+    @Value.Default
+    default long classHookBudget() {
+        return 1000;
+    }
+
+    /** Shape of the code generated for strategy hooks. */
+    @Value.Default
+    default HookShape hookShape() {
+        return HookShape.INLINE;
+    }
+
+    /**
+     * Types the delegate field of wrappers for final, non-generic annotated classes as the annotated class rather than
+     * its interfaces, so forwarding calls are monomorphic {@code invokevirtual} calls rather than {@code
+     * invokeinterface} calls prone to profile pollution. Such wrappers only accept the annotated class as delegate, and
+     * are not included in the registry. Applies to strategies which don't override
+     * {@link DelegateProcessorStrategy#delegateType(DelegateProcessorStrategy.DelegateTypeArguments)}.
+     */
+    @Value.Default
+    default boolean concreteDelegate() {
+        return false;
+    }
+
+    /**
+     * Name of a system property which disables strategy hooks in generated wrappers when set to {@code true}. The
+     * property is read into a {@code static final} field when a wrapper is initialized, and wrapper methods forward
+     * directly to the delegate when it is set, allowing the JIT to remove the hooks entirely. Hooks are always
+     * enabled by default.
+     */
+    Optional<String> hooksDisabledProperty();
+
+    /**
+     * Generates a nested {@code Hooks} class in wrappers with hooks, allowing their hooks to be enabled and disabled
+     * while the application runs. The state is held by a {@link java.lang.invoke.MutableCallSite} which the JIT treats
+     * as a constant, deoptimizing wrapper methods when it changes, so disabled hooks cost no more than a plain
+     * forwarding method. Hooks are initially enabled, unless disabled by the {@link #hooksDisabledProperty()}.
+     */
+    @Value.Default
+    default boolean hooksToggle() {
+        return false;
+    }
+
+    /**
+     * Runs strategy hooks for one in this many calls of each wrapper method, chosen with {@link
+     * java.util.concurrent.ThreadLocalRandom}, while other calls forward directly to the delegate. Applies to methods
+     * for which the strategy doesn't override
+     * {@link DelegateProcessorStrategy#sampleRate(DelegateProcessorStrategy.DelegateMethodArguments)}. Hooks run for
+     * every call by default.
+     */
+    @Value.Default
+    default int sampleRate() {
+        return 1;
+    }
+
+    /**
+     * Names the field in the {@link NullPointerException} thrown when a wrapper is constructed with a null delegate or
+     * constructor field. Without messages, constructors consist of plain
+     * {@link java.util.Objects#requireNonNull(Object)} checks and field stores, the smallest construction code for the
+     * JIT to inline and scalar replace wrappers created per request.
+     */
+    @Value.Default
+    default boolean nullCheckMessages() {
+        return true;
+    }
+
+    /**
+     * Package of a registry of the wrappers generated in this compilation, named after the processor. Processors
+     * generating a registry are aggregating rather than isolating. No registry is generated by default.
+     */
+    Optional<String> registryPackage();
+
+    /**
+     * Generates a single wrapper for the annotated types of a package which implement the same interfaces, named after
+     * the interfaces, rather than a wrapper per annotated type. Annotated types for which a strategy generates
+     * type-specific code keep a wrapper of their own. Processors sharing wrappers are aggregating rather than
+     * isolating.
+     */
+    @Value.Default
+    default boolean shareWrappers() {
+        return false;
+    }
+
+    /** Returns true if the given options require gradle to treat the processor as aggregating. */
+    static boolean isAggregating(Map<String, String> options) {
+        // Options provided without a value map to null
+        return options.containsKey(REGISTRY)
+                || (options.containsKey(SHARE_WRAPPERS) && !"false".equalsIgnoreCase(options.get(SHARE_WRAPPERS)));
+    }
+
+    /** Returns true if the given {@link ProcessorContext#options()} enable {@link #concreteDelegate()}. */
+    static boolean isConcreteDelegate(Map<String, String> options) {
+        String concreteDelegate = options.get(CONCRETE_DELEGATE);
+        return concreteDelegate != null && (concreteDelegate.isEmpty() || concreteDelegate.equalsIgnoreCase("true"));
+    }
+
+    static ProcessorOptions parse(Map<String, String> options, Messager messager) {
+        ImmutableProcessorOptions.Builder builder = ImmutableProcessorOptions.builder();
+        String formatterThreads = options.get(FORMATTER_THREADS);
+        if (formatterThreads != null) {
+            parsePositiveLong(FORMATTER_THREADS, formatterThreads, messager)
+                    .ifPresent(threads -> builder.formatterThreads(Ints.saturatedCast(threads)));
+        }
+        String formatCacheDirectory = options.get(FORMAT_CACHE_DIRECTORY);
+        if (formatCacheDirectory != null) {
+            builder.formatCacheDirectory(Paths.get(formatCacheDirectory));
+        }
+        String formatCacheMaxBytes = options.get(FORMAT_CACHE_MAX_BYTES);
+        if (formatCacheMaxBytes != null) {
+            parsePositiveLong(FORMAT_CACHE_MAX_BYTES, formatCacheMaxBytes, messager)
+                    .ifPresent(builder::formatCacheMaxBytes);
+        }
+        String fastEmit = options.get(FAST_EMIT);
+        if (fastEmit != null) {
+            parseBoolean(FAST_EMIT, fastEmit, messager).ifPresent(builder::fastEmit);
+        }
+        String timings = options.get(TIMINGS);
+        if (timings != null) {
+            parseBoolean(TIMINGS, timings, messager).ifPresent(builder::timings);
+        }
+        String timingsReport = options.get(TIMINGS_REPORT);
+        if (timingsReport != null) {
+            builder.timingsReport(timingsReport);
+        }
+        String timingsSlowestTypes = options.get(TIMINGS_SLOWEST_TYPES);
+        if (timingsSlowestTypes != null) {
+            parsePositiveLong(TIMINGS_SLOWEST_TYPES, timingsSlowestTypes, messager)
+                    .ifPresent(slowestTypes -> builder.timingsSlowestTypes(Ints.saturatedCast(slowestTypes)));
+        }
+        String methodHookBudget = options.get(METHOD_HOOK_BUDGET);
+        if (methodHookBudget != null) {
+            parsePositiveLong(METHOD_HOOK_BUDGET, methodHookBudget, messager).ifPresent(builder::methodHookBudget);
+        }
+        String classHookBudget = options.get(CLASS_HOOK_BUDGET);
+        if (classHookBudget != null) {
+            parsePositiveLong(CLASS_HOOK_BUDGET, classHookBudget, messager).ifPresent(builder::classHookBudget);
+        }
+        String hookShape = options.get(HOOK_SHAPE);
+        if (hookShape != null) {
+            parseHookShape(hookShape, messager).ifPresent(builder::hookShape);
+        }
+        String concreteDelegate = options.get(CONCRETE_DELEGATE);
+        if (concreteDelegate != null) {
+            parseBoolean(CONCRETE_DELEGATE, concreteDelegate, messager).ifPresent(builder::concreteDelegate);
+        }
+        String hooksDisabledProperty = options.get(HOOKS_DISABLED_PROPERTY);
+        if (hooksDisabledProperty != null) {
+            if (hooksDisabledProperty.isBlank()) {
+                messager.printMessage(
+                        Kind.ERROR, "Expected a system property name for option '" + HOOKS_DISABLED_PROPERTY + "'");
+            } else {
+                builder.hooksDisabledProperty(hooksDisabledProperty);
+            }
+        }
+        String hooksToggle = options.get(HOOKS_TOGGLE);
+        if (hooksToggle != null) {
+            parseBoolean(HOOKS_TOGGLE, hooksToggle, messager).ifPresent(builder::hooksToggle);
+        }
+        String sampleRate = options.get(SAMPLE_RATE);
+        if (sampleRate != null) {
+            parsePositiveLong(SAMPLE_RATE, sampleRate, messager)
+                    .ifPresent(rate -> builder.sampleRate(Ints.saturatedCast(rate)));
+        }
+        String nullCheckMessages = options.get(NULL_CHECK_MESSAGES);
+        if (nullCheckMessages != null) {
+            parseBoolean(NULL_CHECK_MESSAGES, nullCheckMessages, messager).ifPresent(builder::nullCheckMessages);
+        }
+        String shareWrappers = options.get(SHARE_WRAPPERS);
+        if (shareWrappers != null) {
+            parseBoolean(SHARE_WRAPPERS, shareWrappers, messager).ifPresent(builder::shareWrappers);
+        }
+        String registry = options.get(REGISTRY);
+        if (registry != null) {
+            if (SourceVersion.isName(registry)) {
+                builder.registryPackage(registry);
+            } else {
+                messager.printMessage(
+                        Kind.ERROR, "Expected a package name for option '" + REGISTRY + "', found: " + registry);
+            }
+        }
+        return builder.build();
+    }
+
+    // Boolean options may be provided without a value to enable them.
+    private static Optional<Boolean> parseBoolean(String key, String value, Messager messager) {
+        if (value.isEmpty() || value.equalsIgnoreCase("true")) {
+            return Optional.of(true);
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return Optional.of(false);
+        }
+        messager.printMessage(Kind.ERROR, "Expected a boolean for option '" + key + "', found: " + value);
+        return Optional.empty();
+    }
+
+    private static Optional<HookShape> parseHookShape(String value, Messager messager) {
+        for (HookShape shape : HookShape.values()) {
+            if (shape.name().equalsIgnoreCase(value)) {
+                return Optional.of(shape);
+            }
+        }
+        messager.printMessage(
+                Kind.ERROR,
+                "Expected one of " + Arrays.toString(HookShape.values()).toLowerCase(Locale.ROOT) + " for option '"
+                        + HOOK_SHAPE + "', found: " + value);
+        return Optional.empty();
+    }
+
+    private static OptionalLong parsePositiveLong(String key, String value, Messager messager) {
+        long parsed;
+        try {
+            parsed = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            parsed = 0;
+        }
+        if (parsed > 0) {
+            return OptionalLong.of(parsed);
+        }
+        messager.printMessage(Kind.ERROR, "Expected a positive number for option '" + key + "', found: " + value);
+        return OptionalLong.empty();
+    }
+
+    enum HookShape {
+        /**
+         * Hooks are generated within each wrapper method, unless the method exceeds the
+         * {@link #methodHookBudget() method hook budget}.
+         */
+        INLINE,
+        /**
+         * Movable hooks are always moved into static helper methods, keeping wrapper methods within the JIT's inlining
+         * thresholds regardless of hook size.
+         */
+        HELPERS;
+    }
+}
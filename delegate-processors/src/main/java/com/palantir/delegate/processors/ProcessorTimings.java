@@ -0,0 +1,238 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.Iterables;
+import com.squareup.javapoet.JavaFile;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.QualifiedNameable;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Nanosecond timings of each processing phase, per annotated type, accumulated across rounds. Types are identified by
+ * their qualified name. Formatting may be timed concurrently from formatter threads.
+ */
+final class ProcessorTimings {
+
+    enum Phase {
+        /** Resolving the interfaces and methods of an annotated type. */
+        MODEL,
+        /** Building the generated type, including strategy hooks. */
+        GENERATE,
+        /** Formatting the generated source. */
+        FORMAT,
+        /** Writing the generated source through the {@link javax.annotation.processing.Filer}. */
+        WRITE;
+
+        String displayName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final AtomicInteger rounds = new AtomicInteger();
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+    private final AtomicLongArray phaseCounts = new AtomicLongArray(Phase.values().length);
+    private final Map<String, AtomicLongArray> typeNanos = new ConcurrentHashMap<>();
+
+    void recordRound() {
+        rounds.incrementAndGet();
+    }
+
+    <T> T time(Phase phase, Element element, Supplier<T> task) {
+        return time(phase, typeName(element), task);
+    }
+
+    <T> T time(Phase phase, JavaFile javaFile, Supplier<T> task) {
+        Element element = Iterables.getFirst(javaFile.typeSpec.originatingElements, null);
+        return element == null
+                ? time(phase, javaFile.packageName + '.' + javaFile.typeSpec.name, task)
+                : time(phase, element, task);
+    }
+
+    private <T> T time(Phase phase, String typeName, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(phase, typeName, System.nanoTime() - start);
+        }
+    }
+
+    void record(Phase phase, String typeName, long nanos) {
+        phaseNanos.addAndGet(phase.ordinal(), nanos);
+        phaseCounts.incrementAndGet(phase.ordinal());
+        typeNanos
+                .computeIfAbsent(typeName, _name -> new AtomicLongArray(Phase.values().length))
+                .addAndGet(phase.ordinal(), nanos);
+    }
+
+    /** Reports timings as requested by {@code options}, once processing is over. */
+    void report(String processorName, ProcessorContext context, ProcessorOptions options) {
+        if (options.timings()) {
+            context.messager().printMessage(Kind.NOTE, summary(processorName, options.timingsSlowestTypes()));
+        }
+        options.timingsReport().ifPresent(relativeName -> {
+            try {
+                FileObject report = context.filer().createResource(StandardLocation.CLASS_OUTPUT, "", relativeName);
+                try (Writer writer = report.openWriter()) {
+                    writer.write(json(processorName, options.timingsSlowestTypes()));
+                }
+            } catch (IOException | RuntimeException e) {
+                context.messager()
+                        .printMessage(Kind.WARNING, "Failed to write timings report '" + relativeName + "': " + e);
+            }
+        });
+    }
+
+    String summary(String processorName, int slowestTypes) {
+        StringBuilder summary = new StringBuilder()
+                .append(processorName)
+                .append(" timings: ")
+                .append(typeNanos.size())
+                .append(" types in ")
+                .append(rounds.get())
+                .append(" rounds");
+        for (Phase phase : Phase.values()) {
+            summary.append("\n  ")
+                    .append(phase.displayName())
+                    .append(": ")
+                    .append(millis(phaseNanos.get(phase.ordinal())))
+                    .append(" (")
+                    .append(phaseCounts.get(phase.ordinal()))
+                    .append(')');
+        }
+        List<Map.Entry<String, AtomicLongArray>> slowest = slowest(slowestTypes);
+        if (!slowest.isEmpty()) {
+            summary.append("\nSlowest types:");
+            for (Map.Entry<String, AtomicLongArray> entry : slowest) {
+                summary.append("\n  ")
+                        .append(entry.getKey())
+                        .append(": ")
+                        .append(millis(total(entry.getValue())))
+                        .append(" (")
+                        .append(phases(entry.getValue()))
+                        .append(')');
+            }
+        }
+        return summary.toString();
+    }
+
+    String json(String processorName, int slowestTypes) {
+        StringBuilder json = new StringBuilder()
+                .append("{\n  \"processor\": ")
+                .append(quote(processorName))
+                .append(",\n  \"rounds\": ")
+                .append(rounds.get())
+                .append(",\n  \"types\": ")
+                .append(typeNanos.size())
+                .append(",\n  \"phases\": {");
+        for (Phase phase : Phase.values()) {
+            json.append(phase.ordinal() == 0 ? "\n" : ",\n")
+                    .append("    ")
+                    .append(quote(phase.displayName()))
+                    .append(": {\"nanos\": ")
+                    .append(phaseNanos.get(phase.ordinal()))
+                    .append(", \"count\": ")
+                    .append(phaseCounts.get(phase.ordinal()))
+                    .append('}');
+        }
+        json.append("\n  },\n  \"slowestTypes\": [");
+        List<Map.Entry<String, AtomicLongArray>> slowest = slowest(slowestTypes);
+        for (int i = 0; i < slowest.size(); i++) {
+            Map.Entry<String, AtomicLongArray> entry = slowest.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"type\": ")
+                    .append(quote(entry.getKey()))
+                    .append(", \"nanos\": ")
+                    .append(total(entry.getValue()));
+            for (Phase phase : Phase.values()) {
+                json.append(", ")
+                        .append(quote(phase.displayName()))
+                        .append(": ")
+                        .append(entry.getValue().get(phase.ordinal()));
+            }
+            json.append('}');
+        }
+        return json.append(slowest.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    private List<Map.Entry<String, AtomicLongArray>> slowest(int limit) {
+        return typeNanos.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, AtomicLongArray>>comparingLong(entry -> total(entry.getValue()))
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static String phases(AtomicLongArray nanos) {
+        StringBuilder phases = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            if (phase.ordinal() > 0) {
+                phases.append(", ");
+            }
+            phases.append(phase.displayName()).append(' ').append(millis(nanos.get(phase.ordinal())));
+        }
+        return phases.toString();
+    }
+
+    private static long total(AtomicLongArray nanos) {
+        long total = 0;
+        for (int i = 0; i < nanos.length(); i++) {
+            total += nanos.get(i);
+        }
+        return total;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000d);
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == '"' || character == '\\') {
+                quoted.append('\\').append(character);
+            } else if (character < 0x20) {
+                quoted.append(String.format(Locale.ROOT, "\\u%04x", (int) character));
+            } else {
+                quoted.append(character);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String typeName(Element element) {
+        return element instanceof QualifiedNameable
+                ? ((QualifiedNameable) element).getQualifiedName().toString()
+                : element.getSimpleName().toString();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a single wrapper for annotated types in the same package which implement the same interfaces, when
+ * {@link ProcessorOptions#shareWrappers()} is enabled. The shared wrapper is named after the interfaces rather than
+ * the annotated type. Wrappers are only shared when the strategy generates identical sources for every annotated type
+ * in the group, otherwise each type keeps a wrapper of its own, as do types which are alone in their group.
+ */
+final class SharedWrappers {
+
+    // Shared wrappers generated in previous rounds, which cannot be generated again
+    private final Set<ClassName> generated = new HashSet<>();
+
+    interface Generator {
+        JavaFile generate(DelegateProcessorStrategy strategy, AnnotatedType annotatedType, String generatedTypeName);
+    }
+
+    /** A wrapper generated by a strategy for one or more annotated types. */
+    record Wrapper(DelegateProcessorStrategy strategy, AnnotatedType annotatedType, JavaFile javaFile) {}
+
+    /**
+     * Generates wrappers for the given requests, sharing a wrapper between the annotated types of each strategy which
+     * have the same interfaces and package.
+     */
+    List<Wrapper> generate(List<Request> requests, Generator generator, ProcessorContext context) {
+        Map<GroupKey, List<Request>> groups = new LinkedHashMap<>();
+        Set<ClassName> ownNames = new HashSet<>();
+        for (Request request : requests) {
+            String packageName = packageName(request.annotatedType(), context);
+            ownNames.add(ClassName.get(packageName, ownName(request)));
+            groups.computeIfAbsent(
+                            new GroupKey(
+                                    request.strategy(),
+                                    packageName,
+                                    request.annotatedType().interfaces().stream()
+                                            .map(TypeName::get)
+                                            .collect(ImmutableList.toImmutableList())),
+                            _key -> new ArrayList<>())
+                    .add(request);
+        }
+        List<Wrapper> wrappers = new ArrayList<>();
+        groups.forEach((key, members) -> {
+            ClassName sharedName = ClassName.get(key.packageName(), sharedName(key));
+            boolean conflicts = generated.contains(sharedName)
+                    || (ownNames.contains(sharedName)
+                            && members.stream()
+                                    .noneMatch(member -> ownName(member).equals(sharedName.simpleName())));
+            Optional<Wrapper> shared = members.size() > 1 && !conflicts
+                    ? generateShared(key.packageName(), sharedName.simpleName(), members, generator)
+                    : Optional.empty();
+            if (shared.isPresent()) {
+                generated.add(sharedName);
+                wrappers.add(shared.get());
+            } else {
+                members.forEach(member -> wrappers.add(generate(member, ownName(member), generator)));
+            }
+        });
+        return wrappers;
+    }
+
+    /**
+     * Generates the wrapper shared by all members, or nothing as soon as a member's wrapper differs from the others,
+     * so each member is generated at most once under the shared name.
+     */
+    private static Optional<Wrapper> generateShared(
+            String packageName, String sharedName, List<Request> members, Generator generator) {
+        List<Request> sorted = members.stream()
+                .sorted(Comparator.comparing(member ->
+                        member.annotatedType().type().getQualifiedName().toString()))
+                .collect(Collectors.toList());
+        Wrapper first = generate(sorted.get(0), sharedName, generator);
+        String sharedSource = first.javaFile().toString();
+        TypeSpec.Builder sharedType = first.javaFile().typeSpec.toBuilder();
+        for (Request member : sorted.subList(1, sorted.size())) {
+            JavaFile candidate = generator.generate(member.strategy(), member.annotatedType(), sharedName);
+            if (!candidate.toString().equals(sharedSource)) {
+                return Optional.empty();
+            }
+            candidate.typeSpec.originatingElements.forEach(sharedType::addOriginatingElement);
+        }
+        return Optional.of(new Wrapper(
+                first.strategy(), first.annotatedType(), JavaFiles.create(packageName, sharedType.build())));
+    }
+
+    private static Wrapper generate(Request request, String generatedTypeName, Generator generator) {
+        return new Wrapper(
+                request.strategy(),
+                request.annotatedType(),
+                generator.generate(request.strategy(), request.annotatedType(), generatedTypeName));
+    }
+
+    private static String packageName(AnnotatedType annotatedType, ProcessorContext context) {
+        return context.elements()
+                .getPackageOf(annotatedType.originatingElement())
+                .getQualifiedName()
+                .toString();
+    }
+
+    private static String ownName(Request request) {
+        return request.strategy()
+                .generatedTypeName(
+                        request.annotatedType().type().getSimpleName().toString());
+    }
+
+    private static String sharedName(GroupKey key) {
+        return key.strategy()
+                .generatedTypeName(key.interfaces().stream()
+                        .map(SharedWrappers::rawType)
+                        .map(ClassName::simpleName)
+                        .collect(Collectors.joining()));
+    }
+
+    private static ClassName rawType(TypeName typeName) {
+        return typeName instanceof ParameterizedTypeName
+                ? ((ParameterizedTypeName) typeName).rawType
+                : (ClassName) typeName;
+    }
+
+    /** A wrapper to generate by a strategy for an annotated type. */
+    record Request(DelegateProcessorStrategy strategy, AnnotatedType annotatedType) {}
+
+    private record GroupKey(DelegateProcessorStrategy strategy, String packageName, List<TypeName> interfaces) {}
+}
@@ -0,0 +1,48 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import org.immutables.value.Value;
+
+/**
+ * A local variable holding per-call state, declared by {@link DelegateProcessorStrategy#state} ahead of the
+ * {@code before} hook and in scope for every hook of the generated method.
+ */
+@Value.Immutable
+@ImmutablesStyle
+public interface StateVariable {
+    TypeName type();
+
+    String name();
+
+    /** Expression the variable is initialized with, evaluated before the {@code before} hook. */
+    CodeBlock initializer();
+
+    /**
+     * Returns the variable hooks may reference, as provided by
+     * {@link DelegateProcessorStrategy.DelegateMethodArguments#state()}.
+     */
+    default LocalVariable variable() {
+        return LocalVariable.builder().type(type()).name(name()).build();
+    }
+
+    static ImmutableStateVariable.TypeBuildStage builder() {
+        return ImmutableStateVariable.builder();
+    }
+}
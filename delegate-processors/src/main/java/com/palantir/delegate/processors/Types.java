@@ -16,12 +16,20 @@
 
 package com.palantir.delegate.processors;
 
+import com.google.auto.common.MoreElements;
 import com.google.common.collect.Iterables;
 import com.palantir.delegate.processors.DelegateProcessorStrategy.DelegateTypeArguments;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeVariableName;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 
 final class Types {
 
@@ -32,6 +40,9 @@ final class Types {
     // interface order in the 'implements' tree to avoid changing jersey (or similar reflective
     // framework) behavior.
     static TypeName delegateType(DelegateTypeArguments arguments) {
+        if (ProcessorOptions.isConcreteDelegate(arguments.context().options()) && isConcrete(arguments.type())) {
+            return ClassName.get(arguments.type().type());
+        }
         List<TypeMirror> interfaces = arguments.type().interfaces();
         if (interfaces.size() == 1) {
             return TypeName.get(Iterables.getOnlyElement(interfaces));
@@ -55,5 +66,48 @@ final class Types {
                 arguments.type().interfaces().stream().map(TypeName::get).toArray(TypeName[]::new));
     }
 
+    /**
+     * Returns the given name for a class nested in the generated type, followed by underscores when the name would
+     * hide the generated type, its type parameters, the interfaces it implements, or their member types.
+     */
+    static String nestedClassName(
+            String name, ClassName generatedClassName, AnnotatedType annotatedType, ProcessorContext context) {
+        Set<String> usedNames = new HashSet<>();
+        usedNames.add(generatedClassName.simpleName());
+        annotatedType
+                .type()
+                .getTypeParameters()
+                .forEach(parameter -> usedNames.add(parameter.getSimpleName().toString()));
+        for (TypeMirror interfaceType : annotatedType.interfaces()) {
+            TypeElement interfaceElement = MoreElements.asType(context.types().asElement(interfaceType));
+            usedNames.add(interfaceElement.getSimpleName().toString());
+            ElementFilter.typesIn(context.elements().getAllMembers(interfaceElement))
+                    .forEach(memberType ->
+                            usedNames.add(memberType.getSimpleName().toString()));
+        }
+        String className = name;
+        while (usedNames.contains(className)) {
+            className = className + '_';
+        }
+        return className;
+    }
+
+    // Calls through a final class are monomorphic, the wrapper may be typed to it if it can name the class directly.
+    private static boolean isConcrete(AnnotatedType type) {
+        TypeElement element = type.type();
+        if (!element.getKind().isClass()
+                || !element.getModifiers().contains(Modifier.FINAL)
+                || !element.getTypeParameters().isEmpty()
+                || !element.equals(type.originatingElement())) {
+            return false;
+        }
+        for (Element current = element; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Types() {}
 }
@@ -0,0 +1,158 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.List;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Generates the members allowing wrappers to be unwrapped and reused, per
+ * {@link DelegateProcessorStrategy#unwrapMethodName()}, {@link DelegateProcessorStrategy#rebindMethodName()} and
+ * {@link DelegateProcessorStrategy#idempotentFactory()}.
+ */
+final class Unwrapping {
+
+    /** Adds an accessor returning the delegate. */
+    static void addUnwrapMethod(
+            String methodName,
+            FieldSpec delegateField,
+            AnnotatedType annotatedType,
+            ProcessorContext context,
+            TypeSpec.Builder builder) {
+        boolean declared = builder.methodSpecs.stream()
+                .anyMatch(method -> method.name.equals(methodName) && method.parameters.isEmpty());
+        if (declared) {
+            context.messager()
+                    .printMessage(
+                            Kind.ERROR,
+                            "Unwrap method '" + methodName + "' conflicts with a method of the generated type",
+                            annotatedType.originatingElement());
+            return;
+        }
+        builder.addMethod(MethodSpec.methodBuilder(methodName)
+                .addJavadoc("Returns the delegate of this wrapper.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(delegateField.type)
+                .addStatement("return this.$N", delegateField.name)
+                .build());
+    }
+
+    /** Adds a method replacing the delegate, which returns the wrapper. */
+    static void addRebindMethod(
+            String methodName,
+            FieldSpec delegateField,
+            CodeBlock requireNonNull,
+            TypeName generatedTypeName,
+            AnnotatedType annotatedType,
+            ProcessorContext context,
+            TypeSpec.Builder builder) {
+        boolean declared = builder.methodSpecs.stream()
+                .anyMatch(method -> method.name.equals(methodName) && method.parameters.size() == 1);
+        if (declared) {
+            context.messager()
+                    .printMessage(
+                            Kind.ERROR,
+                            "Rebind method '" + methodName + "' conflicts with a method of the generated type",
+                            annotatedType.originatingElement());
+            return;
+        }
+        builder.addMethod(MethodSpec.methodBuilder(methodName)
+                .addJavadoc("Replaces the delegate of this wrapper, which must not be shared between threads.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(delegateField.type, delegateField.name)
+                .returns(generatedTypeName)
+                .addStatement("this.$N = $L", delegateField.name, requireNonNull)
+                .addStatement("return this")
+                .build());
+    }
+
+    /**
+     * Makes the factory return its argument unchanged when it is already an instance of the generated type. Factories
+     * of generic wrappers are left unchanged, the delegate of an existing instance may not satisfy the requested type
+     * arguments. Neither are factories of wrappers whose delegate is typed by a class, of which the wrapper can't be an
+     * instance.
+     */
+    static void makeFactoryIdempotent(
+            String factoryMethodName,
+            TypeName delegateTypeName,
+            ClassName generatedClassName,
+            AnnotatedType annotatedType,
+            ProcessorContext context,
+            TypeSpec.Builder builder) {
+        if (!builder.typeVariables.isEmpty() || !isInterface(delegateTypeName, context)) {
+            return;
+        }
+        List<MethodSpec> methods = builder.methodSpecs;
+        for (int i = 0; i < methods.size(); i++) {
+            MethodSpec method = methods.get(i);
+            if (method.name.equals(factoryMethodName)
+                    && method.modifiers.contains(Modifier.STATIC)
+                    && method.parameters.size() == 1
+                    && method.parameters.get(0).type.equals(delegateTypeName)) {
+                methods.set(i, withGuard(method, generatedClassName));
+                return;
+            }
+        }
+        context.messager()
+                .printMessage(
+                        Kind.ERROR,
+                        "Expected a static method '" + factoryMethodName
+                                + "' accepting only the delegate to make idempotent",
+                        annotatedType.originatingElement());
+    }
+
+    private static MethodSpec withGuard(MethodSpec method, ClassName generatedClassName) {
+        ParameterSpec delegate = method.parameters.get(0);
+        MethodSpec.Builder guarded = MethodSpec.methodBuilder(method.name)
+                .addJavadoc(method.javadoc)
+                .addAnnotations(method.annotations)
+                .addModifiers(method.modifiers)
+                .addTypeVariables(method.typeVariables)
+                .returns(method.returnType)
+                .addParameters(method.parameters)
+                .varargs(method.varargs)
+                .addExceptions(method.exceptions)
+                .beginControlFlow("if ($N instanceof $T)", delegate, generatedClassName)
+                .addStatement("return ($T) $N", generatedClassName, delegate)
+                .endControlFlow()
+                .addCode(method.code);
+        return guarded.build();
+    }
+
+    private static boolean isInterface(TypeName typeName, ProcessorContext context) {
+        TypeName raw =
+                typeName instanceof ParameterizedTypeName ? ((ParameterizedTypeName) typeName).rawType : typeName;
+        if (!(raw instanceof ClassName)) {
+            return false;
+        }
+        TypeElement element = context.elements().getTypeElement(((ClassName) raw).canonicalName());
+        return element != null && element.getKind() == ElementKind.INTERFACE;
+    }
+
+    private Unwrapping() {}
+}
@@ -0,0 +1,245 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Collects the wrappers generated across all rounds when {@link ProcessorOptions#registryPackage()} is set, and
+ * generates a registry mapping the interfaces of each wrapper to a factory lambda, along with a
+ * {@code META-INF/delegate-processors} index of the registered wrappers. The registry allows applications to wrap
+ * delegates without reflection or classpath scanning.
+ */
+final class WrapperRegistry {
+
+    private static final String INDEX_DIRECTORY = "META-INF/delegate-processors/";
+    private static final String FACTORIES_NAME = "FACTORIES";
+    private static final TypeName FACTORY_TYPE =
+            ParameterizedTypeName.get(ClassName.get(Function.class), TypeName.OBJECT, TypeName.OBJECT);
+    private static final TypeName INTERFACES_TYPE = ParameterizedTypeName.get(
+            ClassName.get(Set.class),
+            ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)));
+    private static final TypeName FACTORIES_TYPE =
+            ParameterizedTypeName.get(ClassName.get(Map.class), INTERFACES_TYPE, FACTORY_TYPE);
+
+    // Keyed by wrapper name for deterministic output regardless of the order types are processed in
+    private final Map<String, Entry> entries = new TreeMap<>();
+    private boolean written;
+
+    /**
+     * Registers a generated wrapper. Wrappers are only registered when their strategy provides a
+     * {@link DelegateProcessorStrategy#factoryMethodName() factory method}, and when both the wrapper and its
+     * interfaces are accessible from the registry package.
+     */
+    void add(
+            DelegateProcessorStrategy strategy,
+            AnnotatedType annotatedType,
+            JavaFile wrapper,
+            String registryPackage,
+            ProcessorContext context) {
+        Optional<String> factoryMethodName = strategy.factoryMethodName();
+        if (factoryMethodName.isEmpty()) {
+            return;
+        }
+        Optional<MethodSpec> factory = wrapper.typeSpec.methodSpecs.stream()
+                .filter(method -> method.name.equals(factoryMethodName.get())
+                        && method.modifiers.contains(Modifier.STATIC)
+                        && method.parameters.size() == 1)
+                .findFirst();
+        if (factory.isEmpty()) {
+            context.messager()
+                    .printMessage(
+                            Kind.ERROR,
+                            "Expected '" + wrapper.typeSpec.name + "' to declare a static factory method '"
+                                    + factoryMethodName.get() + "' accepting only the delegate.",
+                            annotatedType.originatingElement());
+            return;
+        }
+        // Wrappers typed to a concrete delegate cannot wrap arbitrary implementations of their interfaces
+        if (annotatedType.type().getKind().isClass()
+                && factory.get().parameters.get(0).type.equals(ClassName.get(annotatedType.type()))) {
+            return;
+        }
+        boolean wrapperAccessible =
+                wrapper.typeSpec.modifiers.contains(Modifier.PUBLIC) || wrapper.packageName.equals(registryPackage);
+        boolean interfacesAccessible = annotatedType.interfaces().stream()
+                .allMatch(mirror -> isAccessible(context.types().asElement(mirror), registryPackage, context));
+        if (!wrapperAccessible || !interfacesAccessible) {
+            return;
+        }
+        ClassName wrapperName = ClassName.get(wrapper.packageName, wrapper.typeSpec.name);
+        entries.put(
+                wrapperName.canonicalName(),
+                new Entry(
+                        wrapperName,
+                        factoryMethodName.get(),
+                        annotatedType.interfaces().stream()
+                                .map(mirror ->
+                                        (ClassName) TypeName.get(context.types().erasure(mirror)))
+                                .collect(ImmutableList.toImmutableList()),
+                        !wrapper.typeSpec.typeVariables.isEmpty()
+                                || annotatedType.interfaces().stream().anyMatch(WrapperRegistry::isParameterized)));
+    }
+
+    /** Returns true once the registry has been generated, after which no further wrappers may be registered. */
+    boolean isWritten() {
+        return written;
+    }
+
+    void write(
+            ClassName registryName,
+            String processorName,
+            ProcessorContext context,
+            ProcessorOptions options,
+            ProcessorTimings timings) {
+        written = true;
+        JavaFiles.emit(List.of(registry(registryName, processorName)), context, options, timings);
+        String index = entries.values().stream()
+                .map(entry -> entry.wrapper().canonicalName()
+                        + '='
+                        + entry.interfaces().stream()
+                                .map(ClassName::canonicalName)
+                                .collect(Collectors.joining(",")))
+                .collect(Collectors.joining("\n", "", entries.isEmpty() ? "" : "\n"));
+        String indexName = INDEX_DIRECTORY + registryName.canonicalName();
+        try {
+            FileObject resource = context.filer().createResource(StandardLocation.CLASS_OUTPUT, "", indexName);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(index);
+            }
+        } catch (IOException e) {
+            context.messager().printMessage(Kind.ERROR, "Failed to write registry index '" + indexName + "': " + e);
+        }
+    }
+
+    private JavaFile registry(ClassName registryName, String processorName) {
+        CodeBlock.Builder factories =
+                CodeBlock.builder().addStatement("$T $N = new $T<>()", FACTORIES_TYPE, "factories", HashMap.class);
+        // Only the first wrapper by name is registered for each set of interfaces.
+        Set<Set<ClassName>> registered = new HashSet<>();
+        boolean raw = false;
+        for (Entry entry : entries.values()) {
+            if (!registered.add(ImmutableSet.copyOf(entry.interfaces()))) {
+                continue;
+            }
+            raw |= entry.raw();
+            factories.addStatement(
+                    "factories.put($T.of($L), delegate -> $T.$N(($L) delegate))",
+                    Set.class,
+                    entry.interfaces().stream()
+                            .map(name -> CodeBlock.of("$T.class", name))
+                            .collect(CodeBlock.joining(", ")),
+                    entry.wrapper(),
+                    entry.factoryMethodName(),
+                    entry.interfaces().stream()
+                            .map(name -> CodeBlock.of("$T", name))
+                            .collect(CodeBlock.joining(" & ")));
+        }
+        MethodSpec.Builder createFactories = MethodSpec.methodBuilder("createFactories")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(FACTORIES_TYPE)
+                .addCode(factories.build())
+                .addStatement("return $T.copyOf(factories)", Map.class);
+        if (raw) {
+            // Generic wrappers are created from raw delegates, their type arguments cannot be known at runtime.
+            createFactories.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                    .addMember("value", "{$S, $S}", "rawtypes", "unchecked")
+                    .build());
+        }
+        TypeSpec registry = TypeSpec.classBuilder(registryName)
+                .addAnnotation(AnnotationSpec.builder(Generated.class)
+                        .addMember("value", "$S", processorName)
+                        .build())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addField(FieldSpec.builder(
+                                FACTORIES_TYPE, FACTORIES_NAME, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("createFactories()")
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("factory")
+                        .addJavadoc("Returns a factory of wrappers for delegates of exactly the given interfaces.\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), FACTORY_TYPE))
+                        .addParameter(INTERFACES_TYPE, "interfaces")
+                        .addStatement("return $T.ofNullable($N.get(interfaces))", Optional.class, FACTORIES_NAME)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("factories")
+                        .addJavadoc("Returns the wrapper factories of this module, keyed by the wrapped interfaces.\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(FACTORIES_TYPE)
+                        .addStatement("return $N", FACTORIES_NAME)
+                        .build())
+                .addMethod(createFactories.build())
+                .build();
+        return JavaFiles.create(registryName.packageName(), registry);
+    }
+
+    private static boolean isAccessible(Element element, String registryPackage, ProcessorContext context) {
+        for (Element current = element; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!modifiers.contains(Modifier.PUBLIC)
+                            && !context.elements()
+                                    .getPackageOf(current)
+                                    .getQualifiedName()
+                                    .contentEquals(registryPackage))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isParameterized(TypeMirror mirror) {
+        return mirror instanceof DeclaredType
+                && !((DeclaredType) mirror).getTypeArguments().isEmpty();
+    }
+
+    private record Entry(ClassName wrapper, String factoryMethodName, List<ClassName> interfaces, boolean raw) {}
+}
@@ -0,0 +1,125 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.util.JavacTask;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import javax.annotation.processing.Processor;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.assertj.core.api.Assertions;
+
+/** Compiles test sources with a processor, and compares the sources it generates with checked-in golden files. */
+final class Compilations {
+
+    private static final boolean DEV_MODE = Boolean.getBoolean("recreate");
+    private static final Path RESOURCES_BASE_DIR = Paths.get("src", "test", "resources");
+
+    /** A {@link Delegate} annotated interface with a single {@code greet} method. */
+    static final JavaFileObject SERVICE = service("String greet(String name);");
+
+    /** Returns a {@link Delegate} annotated interface named {@code com.palantir.example.Service}. */
+    static JavaFileObject service(String... members) {
+        return JavaFileObjects.forSourceLines(
+                "com.palantir.example.Service",
+                ImmutableList.<String>builder()
+                        .add("package com.palantir.example;")
+                        .add("@" + Delegate.class.getName())
+                        .add("public interface Service {")
+                        .add(members)
+                        .add("}")
+                        .build());
+    }
+
+    static Compilation compile(Processor processor, JavaFileObject source, String... options) {
+        return compile(processor, List.of(source), options);
+    }
+
+    static Compilation compile(Processor processor, List<JavaFileObject> sources, String... options) {
+        return Compiler.javac()
+                .withOptions((Object[]) options)
+                .withProcessors(processor)
+                .compile(sources);
+    }
+
+    static String generatedSource(Compilation compilation, String qualifiedName) {
+        try {
+            return compilation
+                    .generatedSourceFile(qualifiedName)
+                    .orElseThrow()
+                    .getCharContent(false)
+                    .toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Asserts the source generated for the given type matches the golden file of the test case, which is recreated
+     * when running with {@code -Drecreate=true}.
+     */
+    static void assertGeneratedSourceMatches(
+            Compilation compilation, String qualifiedName, Class<?> testClass, String testCase) {
+        Path golden = RESOURCES_BASE_DIR
+                .resolve(testClass.getName().replace('.', '/'))
+                .resolve(testCase)
+                .resolve(qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1) + ".java.generated");
+        String generated = generatedSource(compilation, qualifiedName);
+        try {
+            if (DEV_MODE) {
+                Files.createDirectories(golden.getParent());
+                Files.writeString(golden, generated, StandardCharsets.UTF_8);
+            }
+            Assertions.assertThat(generated).isEqualTo(Files.readString(golden, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Parses the source generated for the given type, without attributing it. */
+    static ClassTree parseGeneratedType(Compilation compilation, String qualifiedName) {
+        JavacTask task = (JavacTask) ToolProvider.getSystemJavaCompiler()
+                .getTask(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        List.of(compilation.generatedSourceFile(qualifiedName).orElseThrow()));
+        try {
+            return (ClassTree) Iterables.getOnlyElement(
+                    Iterables.getOnlyElement(task.parse()).getTypeDecls());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Compilations() {}
+}
@@ -0,0 +1,134 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.AuditingStrategy;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.LayerStrategy;
+import com.palantir.delegate.processors.processor.LocalTimingStrategy;
+import com.palantir.delegate.processors.processor.PrintingProcessorStrategy;
+import com.palantir.delegate.processors.processor.SimpleProcessorStrategy;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import java.util.OptionalInt;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompositeStrategyTests {
+
+    private static final JavaFileObject RESOURCE = JavaFileObjects.forSourceLines(
+            "com.palantir.example.Resource",
+            "package com.palantir.example;",
+            "@" + Delegate.class.getName(),
+            "public final class Resource implements Runnable {",
+            "    @Override",
+            "    public void run() {}",
+            "}");
+
+    @Test
+    public void testStrategiesFusedIntoSingleWrapper() {
+        Compilation compilation =
+                compile(CompositeStrategy.of(PrintingProcessorStrategy.INSTANCE, new LayerStrategy("tracing")));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation.generatedSourceFiles()).hasSize(1);
+        assertGeneratedSourceMatches(compilation, "fused");
+    }
+
+    @Test
+    public void testInnerStrategiesNestedInOrder() {
+        Compilation compilation = compile(CompositeStrategy.of(
+                PrintingProcessorStrategy.INSTANCE, new LayerStrategy("tracing"), new LayerStrategy("logging")));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "nested");
+    }
+
+    @Test
+    public void testConflictingFields() {
+        Compilation compilation =
+                compile(CompositeStrategy.of(new LayerStrategy("tracing"), new LayerStrategy("tracing")));
+
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Composed strategies declare more than one field named 'TRACING'");
+    }
+
+    @Test
+    public void testSampledOnlyIfEveryStrategyIsSampled() {
+        Compilation compilation = compile(
+                CompositeStrategy.of(new LayerStrategy("tracing", OptionalInt.of(10)), new LayerStrategy("logging")));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "partiallySampled");
+    }
+
+    @Test
+    public void testSampledAtHighestRate() {
+        Compilation compilation = compile(CompositeStrategy.of(
+                new LayerStrategy("tracing", OptionalInt.of(100)), new LayerStrategy("logging", OptionalInt.of(10))));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "sampled");
+    }
+
+    @Test
+    public void testResultReturnedByOutermostOnSuccess() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(
+                        CompositeStrategy.of(new LayerStrategy("tracing"), PrintingProcessorStrategy.INSTANCE)),
+                Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.PrintingService", CompositeStrategyTests.class, "result");
+    }
+
+    @Test
+    public void testInnerStrategiesCustomize() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(
+                        CompositeStrategy.of(SimpleProcessorStrategy.INSTANCE, AuditingStrategy.INSTANCE)),
+                Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ServiceWrapper", CompositeStrategyTests.class, "customized");
+    }
+
+    @Test
+    public void testConflictingLocals() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(CompositeStrategy.of(LocalTimingStrategy.INSTANCE, LocalTimingStrategy.INSTANCE)),
+                Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining(
+                        "Composed strategies declare more than one local variable named '_start' in method 'greet'");
+    }
+
+    private static Compilation compile(DelegateProcessorStrategy strategy) {
+        return Compilations.compile(new StrategyProcessor(strategy), RESOURCE);
+    }
+
+    private static void assertGeneratedSourceMatches(Compilation compilation, String testCase) {
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.PrintingResource", CompositeStrategyTests.class, testCase);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.Maps;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.palantir.delegate.processors.processor.RebindingProcessor;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.NewArrayTree;
+import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreeScanner;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.processing.Processor;
+import javax.lang.model.element.Modifier;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ConstructionTests {
+
+    @Test
+    public void testNullCheckMessages() {
+        Compilation compilation = Compilations.compile(new SimpleProcessor(), Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "nullCheckMessages");
+    }
+
+    @Test
+    public void testNullCheckMessagesDisabled() {
+        Compilation compilation = Compilations.compile(
+                new SimpleProcessor(), Compilations.SERVICE, "-Adelegate.processors.nullCheckMessages=false");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "noNullCheckMessages");
+    }
+
+    @Test
+    public void testRebind() {
+        Compilation compilation = Compilations.compile(new RebindingProcessor(), Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "rebind");
+    }
+
+    @Test
+    public void testRebindMethodConflict() {
+        Compilation compilation =
+                Compilations.compile(new RebindingProcessor(), Compilations.service("void rebind(String name);"));
+
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Rebind method 'rebind' conflicts with a method of the generated type");
+    }
+
+    @Test
+    public void testWrappingEachRequestDoesNotAllocate() {
+        // Wrappers may be scalar replaced when created per request, as measured by the WrappingBenchmark, as long as
+        // they're final and only the factory allocates.
+        for (Supplier<Processor> processor :
+                List.<Supplier<Processor>>of(SimpleProcessor::new, RebindingProcessor::new)) {
+            for (boolean nullCheckMessages : List.of(true, false)) {
+                Compilation compilation = Compilations.compile(
+                        processor.get(),
+                        Compilations.SERVICE,
+                        "-Adelegate.processors.nullCheckMessages=" + nullCheckMessages);
+                CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+                ClassTree wrapper = Compilations.parseGeneratedType(compilation, "com.palantir.example.ServiceWrapper");
+                Assertions.assertThat(wrapper.getModifiers().getFlags()).contains(Modifier.FINAL);
+                Assertions.assertThat(wrapper.getMembers())
+                        .filteredOn(member -> member instanceof MethodTree
+                                && ((MethodTree) member).getName().contentEquals("of"))
+                        .singleElement()
+                        .satisfies(factory -> Assertions.assertThat(
+                                        ((MethodTree) factory).getModifiers().getFlags())
+                                .contains(Modifier.STATIC));
+                Map<String, Integer> allocations = allocations(wrapper);
+                Assertions.assertThat(allocations).containsEntry("of", 1).containsKeys("<init>", "greet");
+                Assertions.assertThat(Maps.filterKeys(allocations, name -> !name.equals("of")))
+                        .as("allocations by method other than the factory")
+                        .allSatisfy(
+                                (_name, count) -> Assertions.assertThat(count).isZero());
+                if (processor.get() instanceof RebindingProcessor) {
+                    Assertions.assertThat(allocations).containsKey("rebind");
+                }
+            }
+        }
+    }
+
+    private static void assertGeneratedSourceMatches(Compilation compilation, String testCase) {
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ServiceWrapper", ConstructionTests.class, testCase);
+    }
+
+    /** Counts the objects, arrays and lambdas allocated by each method of the given type. */
+    private static Map<String, Integer> allocations(ClassTree type) {
+        Map<String, Integer> allocations = new HashMap<>();
+        for (Tree member : type.getMembers()) {
+            if (member instanceof MethodTree) {
+                String name = ((MethodTree) member).getName().toString();
+                allocations.put(name, 0);
+                member.accept(
+                        new TreeScanner<Void, Void>() {
+                            @Override
+                            public Void visitNewClass(NewClassTree node, Void _unused) {
+                                allocations.merge(name, 1, Integer::sum);
+                                return super.visitNewClass(node, null);
+                            }
+
+                            @Override
+                            public Void visitNewArray(NewArrayTree node, Void _unused) {
+                                allocations.merge(name, 1, Integer::sum);
+                                return super.visitNewArray(node, null);
+                            }
+
+                            @Override
+                            public Void visitLambdaExpression(LambdaExpressionTree node, Void _unused) {
+                                allocations.merge(name, 1, Integer::sum);
+                                return super.visitLambdaExpression(node, null);
+                            }
+                        },
+                        null);
+            }
+        }
+        return allocations;
+    }
+}
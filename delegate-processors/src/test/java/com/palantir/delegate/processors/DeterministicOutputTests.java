@@ -0,0 +1,153 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.example.BoundedCallableGreetingResource;
+import com.palantir.delegate.processors.example.CallableGreetingResource;
+import com.palantir.delegate.processors.example.CloseableGreetingResource;
+import com.palantir.delegate.processors.example.CollisionService;
+import com.palantir.delegate.processors.example.DiamondGreetingResource;
+import com.palantir.delegate.processors.example.ExpandedGreetingResource;
+import com.palantir.delegate.processors.example.ExpandedGreetingService;
+import com.palantir.delegate.processors.example.GreetingResource;
+import com.palantir.delegate.processors.example.GreetingService;
+import com.palantir.delegate.processors.example.PoliteGreetingService;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.PrintingProcessor;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.processing.Processor;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DeterministicOutputTests {
+
+    private static final Path TEST_CLASSES_BASE_DIR = Paths.get("src", "test", "java");
+
+    private static final ImmutableList<Class<?>> EXAMPLES = ImmutableList.of(
+            GreetingService.class,
+            PoliteGreetingService.class,
+            ExpandedGreetingService.class,
+            GreetingResource.class,
+            CloseableGreetingResource.class,
+            CallableGreetingResource.class,
+            BoundedCallableGreetingResource.class,
+            DiamondGreetingResource.class,
+            CollisionService.class,
+            ExpandedGreetingResource.class);
+
+    @Test
+    public void testOutputIndependentOfSourceOrderAndRelease() {
+        List<JavaFileObject> sources =
+                EXAMPLES.stream().map(DeterministicOutputTests::sourceFile).collect(ImmutableList.toImmutableList());
+        for (Supplier<Processor> processor :
+                List.<Supplier<Processor>>of(SimpleProcessor::new, PrintingProcessor::new)) {
+            Map<String, String> expected = generatedSources(compile(processor, sources, "--release", "11"));
+            Assertions.assertThat(expected).hasSize(8);
+            Assertions.assertThat(generatedSources(compile(processor, Lists.reverse(sources), "--release", "11")))
+                    .containsExactlyEntriesOf(expected);
+            Assertions.assertThat(generatedSources(compile(processor, sources, "--release", "17")))
+                    .containsExactlyEntriesOf(expected);
+            Assertions.assertThat(generatedSources(compile(processor, Lists.reverse(sources), "--release", "17")))
+                    .containsExactlyEntriesOf(expected);
+        }
+    }
+
+    @Test
+    public void testMethodOrderIndependentOfDeclarationOrder() {
+        Map<String, String> expected = generatedSources(compile(
+                SimpleProcessor::new,
+                List.of(Compilations.service(
+                        "void b();", "void a(String value);", "void a();", "void c(int value);"))));
+        Assertions.assertThat(generatedSources(compile(
+                        SimpleProcessor::new,
+                        List.of(Compilations.service(
+                                "void c(int value);", "void a();", "void b();", "void a(String value);")))))
+                .containsExactlyEntriesOf(expected);
+    }
+
+    @Test
+    public void testMethodsWithSameErasedSignature() {
+        Compilation compilation = compile(
+                SimpleProcessor::new,
+                List.of(
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Consumer",
+                                "package com.palantir.example;",
+                                "public interface Consumer<T> {",
+                                "    void accept(T value);",
+                                "}"),
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Sink",
+                                "package com.palantir.example;",
+                                "public interface Sink<U> {",
+                                "    void accept(U value);",
+                                "}"),
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Service",
+                                "package com.palantir.example;",
+                                "@" + Delegate.class.getName(),
+                                "public interface Service<T> extends Consumer<T>, Sink<T> {",
+                                "}")));
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ServiceWrapper", DeterministicOutputTests.class, "sameErasure");
+    }
+
+    private static Compilation compile(Supplier<Processor> processor, List<JavaFileObject> sources, String... options) {
+        Compilation compilation = Compilations.compile(processor.get(), sources, options);
+        CompilationSubject.assertThat(compilation).succeeded();
+        return compilation;
+    }
+
+    private static Map<String, String> generatedSources(Compilation compilation) {
+        // Generated files are emitted in the order types are discovered, only their contents must be reproducible.
+        ImmutableSortedMap.Builder<String, String> generated = ImmutableSortedMap.naturalOrder();
+        for (JavaFileObject file : compilation.generatedSourceFiles()) {
+            try (InputStream inputStream = file.openInputStream()) {
+                generated.put(file.getName(), new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return generated.buildOrThrow();
+    }
+
+    private static JavaFileObject sourceFile(Class<?> clazz) {
+        Path path = TEST_CLASSES_BASE_DIR.resolve(clazz.getName().replace('.', '/') + ".java");
+        try {
+            return JavaFileObjects.forSourceString(clazz.getName(), Files.readString(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
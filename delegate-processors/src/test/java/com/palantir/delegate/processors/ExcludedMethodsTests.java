@@ -0,0 +1,63 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.palantir.delegate.processors.processor.ExcludingStrategy;
+import com.palantir.delegate.processors.processor.Hot;
+import com.palantir.delegate.processors.processor.LoggingStrategy;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import javax.tools.JavaFileObject;
+import org.junit.jupiter.api.Test;
+
+public class ExcludedMethodsTests {
+
+    private static final JavaFileObject SERVICE = Compilations.service(
+            "@" + Hot.class.getName(),
+            "String name();",
+            "String greet(String name);",
+            "default String shout(String name) {",
+            "    return greet(name).toUpperCase();",
+            "}");
+
+    @Test
+    public void testExcludedMethodsForwardDirectly() {
+        Compilation compilation = compile(ExcludingStrategy.INSTANCE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "excluded");
+    }
+
+    @Test
+    public void testExcludedMethodsOfComposedStrategies() {
+        Compilation compilation =
+                compile(CompositeStrategy.of(ExcludingStrategy.INSTANCE, new LoggingStrategy("logging")));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "composed");
+    }
+
+    private static Compilation compile(DelegateProcessorStrategy strategy) {
+        return Compilations.compile(new StrategyProcessor(strategy), SERVICE);
+    }
+
+    private static void assertGeneratedSourceMatches(Compilation compilation, String testCase) {
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.LoggingService", ExcludedMethodsTests.class, testCase);
+    }
+}
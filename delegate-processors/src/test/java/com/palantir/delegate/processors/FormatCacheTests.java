@@ -0,0 +1,147 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FormatCacheTests {
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    public void testCacheHitSkipsFormatting() throws IOException {
+        FormatCache cache = FormatCache.create(cacheDirectory, Long.MAX_VALUE);
+        AtomicInteger formatted = new AtomicInteger();
+        JavaFile javaFile = javaFile("Foo");
+
+        Assertions.assertThat(cache.format(javaFile, _file -> "formatted" + formatted.incrementAndGet()))
+                .isEqualTo("formatted1");
+        Assertions.assertThat(cache.format(javaFile, _file -> "formatted" + formatted.incrementAndGet()))
+                .isEqualTo("formatted1");
+        Assertions.assertThat(cache.format(javaFile("Bar"), _file -> "formatted" + formatted.incrementAndGet()))
+                .isEqualTo("formatted2");
+        Assertions.assertThat(formatted).hasValue(2);
+    }
+
+    @Test
+    public void testTrimEvictsLeastRecentlyUsed() throws IOException {
+        FormatCache cache = FormatCache.create(cacheDirectory, 10);
+        cache.format(javaFile("Old"), _file -> "0123456789");
+        setAllLastModified(Instant.now().minusSeconds(60));
+        cache.format(javaFile("New"), _file -> "9876543210");
+
+        cache.trim();
+
+        Assertions.assertThat(cacheContents()).containsExactly("9876543210");
+    }
+
+    @Test
+    public void testTrimRetainsRecentlyReadEntries() throws IOException {
+        FormatCache cache = FormatCache.create(cacheDirectory, 10);
+        cache.format(javaFile("Old"), _file -> "0123456789");
+        cache.format(javaFile("New"), _file -> "9876543210");
+        setAllLastModified(Instant.now().minusSeconds(60));
+        // Reading an entry refreshes it
+        cache.format(javaFile("Old"), _file -> "unexpected");
+
+        cache.trim();
+
+        Assertions.assertThat(cacheContents()).containsExactly("0123456789");
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = IntStream.range(0, 64)
+                    .mapToObj(i -> executor.submit(() -> FormatCache.create(cacheDirectory, Long.MAX_VALUE)
+                            .format(javaFile("Foo" + (i % 4)), file -> file.typeSpec.name)))
+                    .collect(Collectors.toList());
+            for (int i = 0; i < results.size(); i++) {
+                Assertions.assertThat(results.get(i).get()).isEqualTo("Foo" + (i % 4));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertThat(cacheContents()).containsExactlyInAnyOrder("Foo0", "Foo1", "Foo2", "Foo3");
+    }
+
+    @Test
+    public void testProcessorOutputUnchangedByCache() throws IOException {
+        String uncached = generatedWrapper();
+        String cacheMiss = generatedWrapper("-Adelegate.processors.formatCacheDirectory=" + cacheDirectory);
+        String cacheHit = generatedWrapper("-Adelegate.processors.formatCacheDirectory=" + cacheDirectory);
+
+        Assertions.assertThat(cacheMiss).isEqualTo(uncached);
+        Assertions.assertThat(cacheHit).isEqualTo(uncached);
+        Assertions.assertThat(cacheContents()).containsExactly(uncached);
+    }
+
+    private static String generatedWrapper(String... options) {
+        Compilation compilation = Compilations.compile(new SimpleProcessor(), Compilations.SERVICE, options);
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        return Compilations.generatedSource(compilation, "com.palantir.example.ServiceWrapper");
+    }
+
+    private static JavaFile javaFile(String name) {
+        return JavaFile.builder(
+                        "com.palantir.example", TypeSpec.classBuilder(name).build())
+                .build();
+    }
+
+    private void setAllLastModified(Instant instant) throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.setLastModifiedTime(file, FileTime.from(instant));
+            }
+        }
+    }
+
+    private List<String> cacheContents() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.map(file -> {
+                        try {
+                            return Files.readString(file);
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    })
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.LocalTimingStrategy;
+import com.palantir.delegate.processors.processor.PrintingProcessor;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HookBudgetTests {
+
+    @Test
+    public void testWideInterfaceSharesHookHelpers() {
+        Compilation compilation = Compilations.compile(new PrintingProcessor(), service(500));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        String generated = Compilations.generatedSource(compilation, "com.palantir.example.PrintingService");
+        // Hooks identical across methods share a helper, hooks specific to a method are left in place.
+        Assertions.assertThat(count(generated, "private static void _onSuccess\\d+\\(String _result\\)"))
+                .isOne();
+        Assertions.assertThat(count(generated, "private static void _onFailure\\d+\\(Throwable _throwable\\)"))
+                .isOne();
+        Assertions.assertThat(count(generated, "private static void _alwaysAfter\\d+\\(\\)"))
+                .isOne();
+        Assertions.assertThat(count(generated, "Helpers\\._alwaysAfter\\d+\\(\\);"))
+                .isEqualTo(500);
+        Assertions.assertThat(count(generated, "void _before")).isZero();
+        Assertions.assertThat(generated).contains("System.out.println(\"method499\");");
+    }
+
+    @Test
+    public void testClassHookBudget() {
+        Compilation compilation =
+                Compilations.compile(new PrintingProcessor(), service(5), "-Adelegate.processors.classHookBudget=1");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.PrintingService", HookBudgetTests.class, "classHookBudget");
+    }
+
+    @Test
+    public void testDefaultBudgetsLeaveHooksInPlace() {
+        Compilation compilation = Compilations.compile(new PrintingProcessor(), service(5));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.PrintingService", HookBudgetTests.class, "defaultBudgets");
+    }
+
+    @Test
+    public void testMethodHookBudget() {
+        Compilation compilation =
+                Compilations.compile(new PrintingProcessor(), service(5), "-Adelegate.processors.methodHookBudget=1");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.PrintingService", HookBudgetTests.class, "methodHookBudget");
+    }
+
+    @Test
+    public void testImmovableHooksLeftInPlace() {
+        // The hooks share a local variable, so the strategy doesn't declare them movable
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(LocalTimingStrategy.INSTANCE),
+                service(5),
+                "-Adelegate.processors.methodHookBudget=1");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.TimedService", HookBudgetTests.class, "immovable");
+    }
+
+    private static JavaFileObject service(int methods) {
+        StringBuilder source = new StringBuilder()
+                .append("package com.palantir.example;\n")
+                .append('@')
+                .append(Delegate.class.getName())
+                .append("\npublic interface Service {\n");
+        for (int i = 0; i < methods; i++) {
+            source.append("    String method").append(i).append("(String value, int count);\n");
+        }
+        return JavaFileObjects.forSourceString(
+                "com.palantir.example.Service", source.append("}\n").toString());
+    }
+
+    private static int count(String generated, String regex) {
+        Matcher matcher = Pattern.compile(regex).matcher(generated);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
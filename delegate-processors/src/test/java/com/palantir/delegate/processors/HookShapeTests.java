@@ -0,0 +1,269 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.MoreCollectors;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.CallCountingStrategy;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.LargeHooksStrategy;
+import com.palantir.delegate.processors.processor.PrintingProcessor;
+import com.palantir.delegate.processors.processor.RejectingStrategy;
+import com.palantir.delegate.processors.processor.SamplingStrategy;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.util.TreeScanner;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HookShapeTests {
+
+    private static final String HELPERS = "-Adelegate.processors.hookShape=helpers";
+    private static final String INLINE = "-Adelegate.processors.methodHookBudget=100000";
+
+    @Test
+    public void testHelpersShapeExtractsHooks() {
+        Compilation compilation =
+                Compilations.compile(new StrategyProcessor(LargeHooksStrategy.INSTANCE), Compilations.SERVICE, HELPERS);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "helpers");
+    }
+
+    @Test
+    public void testInlineShapeLeavesHooksInPlace() {
+        Compilation compilation =
+                Compilations.compile(new StrategyProcessor(LargeHooksStrategy.INSTANCE), Compilations.SERVICE, INLINE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "inline");
+    }
+
+    @Test
+    public void testHelpersShapeKeepsForwardingMethodSmall() {
+        // Hooks inlined into the forwarding method push it past the JIT's FreqInlineSize, helpers leave only calls
+        Assertions.assertThat(invocations(forwardingMethod(INLINE)))
+                .hasSize(81)
+                .containsOnly("requireNonNull", "greet");
+        Assertions.assertThat(invocations(forwardingMethod(HELPERS)))
+                .hasSize(3)
+                .anySatisfy(name -> Assertions.assertThat(name).matches("_before\\d+"))
+                .anySatisfy(name -> Assertions.assertThat(name).matches("_onSuccess\\d+"))
+                .contains("greet");
+    }
+
+    @Test
+    public void testHelpersShapeLeavesImmovableHooksInPlace() {
+        // The hooks use an instance field of the wrapper, so the strategy doesn't declare them movable
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(CallCountingStrategy.INSTANCE), Compilations.SERVICE, HELPERS);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "immovable");
+    }
+
+    @Test
+    public void testHelpersDeclareTypeVariables() {
+        Compilation compilation = Compilations.compile(
+                new PrintingProcessor(),
+                JavaFileObjects.forSourceLines(
+                        "com.palantir.example.Service",
+                        "package com.palantir.example;",
+                        "@" + Delegate.class.getName(),
+                        "public interface Service<T> {",
+                        "    T get();",
+                        "    <U extends T> U narrow(U value);",
+                        "}"),
+                HELPERS);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.PrintingService", HookShapeTests.class, "typeVariables");
+    }
+
+    @Test
+    public void testInvalidHookShape() {
+        CompilationSubject.assertThat(Compilations.compile(
+                        new StrategyProcessor(LargeHooksStrategy.INSTANCE),
+                        Compilations.SERVICE,
+                        "-Adelegate.processors.hookShape=outline"))
+                .hadErrorContaining(
+                        "Expected one of [inline, helpers] for option 'delegate.processors.hookShape', found: outline");
+    }
+
+    @Test
+    public void testHooksDisabledProperty() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(CallCountingStrategy.INSTANCE),
+                Compilations.SERVICE,
+                "-Adelegate.processors.hooksDisabledProperty=com.palantir.example.hooksDisabled");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "hooksDisabledProperty");
+    }
+
+    @Test
+    public void testHooksEnabledByDefault() {
+        Compilation compilation =
+                Compilations.compile(new StrategyProcessor(CallCountingStrategy.INSTANCE), Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "hooksEnabled");
+    }
+
+    @Test
+    public void testBlankHooksDisabledProperty() {
+        CompilationSubject.assertThat(Compilations.compile(
+                        new StrategyProcessor(CallCountingStrategy.INSTANCE),
+                        Compilations.SERVICE,
+                        "-Adelegate.processors.hooksDisabledProperty= "))
+                .hadErrorContaining(
+                        "Expected a system property name for option 'delegate.processors.hooksDisabledProperty'");
+    }
+
+    @Test
+    public void testHooksToggle(@TempDir Path classes) throws Exception {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(RejectingStrategy.INSTANCE),
+                Compilations.SERVICE,
+                "-Adelegate.processors.hooksToggle");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "hooksToggle");
+
+        writeClasses(compilation, classes);
+        try (URLClassLoader loader =
+                new URLClassLoader(new URL[] {classes.toUri().toURL()}, HookShapeTests.class.getClassLoader())) {
+            Class<?> service = loader.loadClass("com.palantir.example.Service");
+            Class<?> wrapper = loader.loadClass("com.palantir.example.ServiceWrapper");
+            Class<?> hooks = loader.loadClass("com.palantir.example.ServiceWrapper$Hooks");
+            Object delegate =
+                    Proxy.newProxyInstance(loader, new Class<?>[] {service}, (_proxy, _method, args) -> args[0]);
+            Object wrapped = wrapper.getMethod("of", service).invoke(null, delegate);
+            Method greet = service.getMethod("greet", String.class);
+
+            Assertions.assertThat(hooks.getMethod("isEnabled").invoke(null)).isEqualTo(true);
+            Assertions.assertThatThrownBy(() -> greet.invoke(wrapped, "name")).hasRootCauseMessage("Hooks are enabled");
+            hooks.getMethod("setEnabled", boolean.class).invoke(null, false);
+            Assertions.assertThat(greet.invoke(wrapped, "name")).isEqualTo("name");
+            hooks.getMethod("setEnabled", boolean.class).invoke(null, true);
+            Assertions.assertThatThrownBy(() -> greet.invoke(wrapped, "name")).hasRootCauseMessage("Hooks are enabled");
+        }
+    }
+
+    @Test
+    public void testHooksToggleInitiallyDisabledByProperty() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(RejectingStrategy.INSTANCE),
+                Compilations.SERVICE,
+                "-Adelegate.processors.hooksToggle",
+                "-Adelegate.processors.hooksDisabledProperty=com.palantir.example.hooksDisabled");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "hooksToggleDisabledProperty");
+    }
+
+    @Test
+    public void testSampleRate() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(CallCountingStrategy.INSTANCE),
+                Compilations.SERVICE,
+                "-Adelegate.processors.sampleRate=100");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "sampleRate");
+    }
+
+    @Test
+    public void testSampleRatePerMethod() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(SamplingStrategy.INSTANCE),
+                Compilations.service("String greet(String name);", "void ping();"),
+                "-Adelegate.processors.hooksDisabledProperty=com.palantir.example.hooksDisabled");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "sampleRatePerMethod");
+    }
+
+    private static void assertGeneratedSourceMatches(Compilation compilation, String testCase) {
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ServiceWrapper", HookShapeTests.class, testCase);
+    }
+
+    /** Returns the forwarding {@code greet} method of the wrapper generated for large hooks with the given option. */
+    private static MethodTree forwardingMethod(String option) {
+        Compilation compilation =
+                Compilations.compile(new StrategyProcessor(LargeHooksStrategy.INSTANCE), Compilations.SERVICE, option);
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        return Compilations.parseGeneratedType(compilation, "com.palantir.example.ServiceWrapper").getMembers().stream()
+                .filter(member -> member instanceof MethodTree
+                        && ((MethodTree) member).getName().contentEquals("greet"))
+                .map(MethodTree.class::cast)
+                .collect(MoreCollectors.onlyElement());
+    }
+
+    /** Returns the names of the methods invoked by the given method, in order. */
+    private static List<String> invocations(MethodTree method) {
+        List<String> invocations = new ArrayList<>();
+        method.accept(
+                new TreeScanner<Void, Void>() {
+                    @Override
+                    public Void visitMethodInvocation(MethodInvocationTree node, Void _unused) {
+                        ExpressionTree select = node.getMethodSelect();
+                        invocations.add(
+                                select instanceof MemberSelectTree
+                                        ? ((MemberSelectTree) select)
+                                                .getIdentifier()
+                                                .toString()
+                                        : ((IdentifierTree) select).getName().toString());
+                        return super.visitMethodInvocation(node, null);
+                    }
+                },
+                null);
+        return invocations;
+    }
+
+    private static void writeClasses(Compilation compilation, Path classes) throws IOException {
+        for (JavaFileObject file : compilation.generatedFiles()) {
+            if (file.getKind() == JavaFileObject.Kind.CLASS) {
+                Path path = classes.resolve(file.getName().replaceFirst("^/CLASS_OUTPUT/", ""));
+                Files.createDirectories(path.getParent());
+                try (InputStream inputStream = file.openInputStream()) {
+                    Files.copy(inputStream, path);
+                }
+            }
+        }
+    }
+}
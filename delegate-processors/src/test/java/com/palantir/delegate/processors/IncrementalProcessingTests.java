@@ -0,0 +1,224 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.example.CloseableGreetingResource;
+import com.palantir.delegate.processors.example.ExpandedGreetingService;
+import com.palantir.delegate.processors.example.GreetingResource;
+import com.palantir.delegate.processors.processor.PrintingProcessor;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalProcessingTests {
+
+    private static final Path TEST_CLASSES_BASE_DIR = Paths.get("src", "test", "java");
+
+    @Test
+    public void testDeclaresIsolatingForDynamicRegistration() {
+        Assertions.assertThat(new SimpleProcessor().getSupportedOptions())
+                .contains("org.gradle.annotation.processing.isolating");
+    }
+
+    @Test
+    public void testEachWrapperHasSingleOriginatingElement() {
+        OriginatingElementRecorder recorder = new OriginatingElementRecorder(new SimpleProcessor());
+        Compilation compilation = compile(
+                recorder, GreetingResource.class, CloseableGreetingResource.class, ExpandedGreetingService.class);
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(recorder.originatingElements())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        wrapperName(GreetingResource.class), List.of(GreetingResource.class.getName()),
+                        wrapperName(CloseableGreetingResource.class),
+                                List.of(CloseableGreetingResource.class.getName()),
+                        wrapperName(ExpandedGreetingService.class), List.of(ExpandedGreetingService.class.getName())));
+    }
+
+    @Test
+    public void testRegisteredAsDynamic() throws IOException {
+        // Processor dependencies may register their own processors under the same resource name
+        List<String> registrations = new ArrayList<>();
+        for (URL resource : Collections.list(IncrementalProcessingTests.class
+                .getClassLoader()
+                .getResources("META-INF/gradle/incremental.annotation.processors"))) {
+            try (InputStream inputStream = resource.openStream()) {
+                new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)
+                        .lines()
+                        .filter(line -> line.startsWith(SimpleProcessor.class.getPackageName()))
+                        .forEach(registrations::add);
+            }
+        }
+        Assertions.assertThat(registrations)
+                .containsExactlyInAnyOrder(
+                        PrintingProcessor.class.getName() + ",DYNAMIC", SimpleProcessor.class.getName() + ",DYNAMIC");
+    }
+
+    @Test
+    public void testWrapperDependsOnlyOnItsAnnotatedType() {
+        // Compiling one annotated type alone produces exactly its wrapper, as required of isolating processors. This
+        // doesn't run gradle, whose handling of the reported incremental type isn't covered by these tests.
+        OriginatingElementRecorder recorder = new OriginatingElementRecorder(new SimpleProcessor());
+        Compilation compilation = compile(recorder, GreetingResource.class);
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation.generatedSourceFiles())
+                .extracting(JavaFileObject::getName)
+                .containsExactly(
+                        "/SOURCE_OUTPUT/" + wrapperName(GreetingResource.class).replace('.', '/') + ".java");
+        Assertions.assertThat(recorder.originatingElements()).containsOnlyKeys(wrapperName(GreetingResource.class));
+    }
+
+    private static String wrapperName(Class<?> clazz) {
+        return clazz.getPackage().getName() + '.' + clazz.getSimpleName() + "Wrapper";
+    }
+
+    private static Compilation compile(Processor processor, Class<?>... classes) {
+        return Compilations.compile(
+                processor,
+                Arrays.stream(classes)
+                        .map(IncrementalProcessingTests::sourceFile)
+                        .collect(ImmutableList.toImmutableList()),
+                "-source",
+                "11",
+                "-Werror",
+                "-Xlint:deprecation",
+                "-Xlint:unchecked");
+    }
+
+    private static JavaFileObject sourceFile(Class<?> clazz) {
+        Path clazzPath = TEST_CLASSES_BASE_DIR.resolve(Paths.get(
+                Joiner.on("/").join(Splitter.on(".").split(clazz.getPackage().getName())),
+                clazz.getSimpleName() + ".java"));
+        try {
+            return JavaFileObjects.forResource(clazzPath.toUri().toURL());
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** Records the originating elements of each source file created through the {@link Filer}. */
+    private static final class OriginatingElementRecorder implements Processor {
+        private final Processor delegate;
+        private final Map<String, List<String>> originatingElements = new LinkedHashMap<>();
+
+        OriginatingElementRecorder(Processor delegate) {
+            this.delegate = delegate;
+        }
+
+        Map<String, List<String>> originatingElements() {
+            return originatingElements;
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            Filer filer = processingEnv.getFiler();
+            Filer recordingFiler = proxy(Filer.class, (method, args) -> {
+                if (method.getName().equals("createSourceFile")) {
+                    originatingElements.put(
+                            args[0].toString(),
+                            Arrays.stream((Element[]) args[1])
+                                    .map(element -> ((TypeElement) element)
+                                            .getQualifiedName()
+                                            .toString())
+                                    .collect(Collectors.toUnmodifiableList()));
+                }
+                return method.invoke(filer, args);
+            });
+            delegate.init(proxy(
+                    ProcessingEnvironment.class,
+                    (method, args) ->
+                            method.getName().equals("getFiler") ? recordingFiler : method.invoke(processingEnv, args)));
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return delegate.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(
+                Element element, AnnotationMirror annotation, ExecutableElement member, String userText) {
+            return delegate.getCompletions(element, annotation, member, userText);
+        }
+
+        private static <T> T proxy(Class<T> iface, Handler handler) {
+            InvocationHandler invocationHandler = (_proxy, method, args) -> {
+                try {
+                    return handler.invoke(method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return iface.cast(
+                    Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] {iface}, invocationHandler));
+        }
+    }
+
+    private interface Handler {
+        Object invoke(Method method, Object[] args) throws ReflectiveOperationException;
+    }
+}
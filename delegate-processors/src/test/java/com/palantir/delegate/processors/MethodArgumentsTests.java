@@ -0,0 +1,135 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.DescriptorCountingStrategy;
+import com.palantir.delegate.processors.processor.RecordingStrategy;
+import com.palantir.delegate.processors.processor.StateTimingStrategy;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MethodArgumentsTests {
+
+    @Test
+    public void testPrimitiveParametersAndResults() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(RecordingStrategy.INSTANCE),
+                Compilations.service("int compute(String name, int count, long size);"));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.RecordingService", MethodArgumentsTests.class, "primitives");
+    }
+
+    @Test
+    public void testParameterTypesResolved() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(RecordingStrategy.INSTANCE),
+                List.of(
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Mapper",
+                                "package com.palantir.example;",
+                                "public interface Mapper<T> {",
+                                "    T map(T value);",
+                                "}"),
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Service",
+                                "package com.palantir.example;",
+                                "@" + Delegate.class.getName(),
+                                "public final class Service implements Mapper<Integer> {",
+                                "    @Override",
+                                "    public Integer map(Integer value) {",
+                                "        return value;",
+                                "    }",
+                                "}")));
+
+        // Boxed parameters and results are not primitive, they are used as objects
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.RecordingService", MethodArgumentsTests.class, "resolvedTypes");
+    }
+
+    @Test
+    public void testStateVariables() {
+        Compilation compilation =
+                Compilations.compile(new StrategyProcessor(StateTimingStrategy.INSTANCE), Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.TimedService", MethodArgumentsTests.class, "state");
+    }
+
+    @Test
+    public void testStateVariablesPassedToHelpers() {
+        // State is passed to extracted hooks rather than shared through locals of the wrapper method
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(StateTimingStrategy.INSTANCE),
+                Compilations.SERVICE,
+                "-Adelegate.processors.hookShape=helpers");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.TimedService", MethodArgumentsTests.class, "stateHelpers");
+    }
+
+    @Test
+    public void testMethodDescriptors() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(DescriptorCountingStrategy.INSTANCE),
+                JavaFileObjects.forSourceLines(
+                        "com.palantir.example.Service",
+                        "package com.palantir.example;",
+                        "import java.util.List;",
+                        "@" + Delegate.class.getName(),
+                        "public interface Service {",
+                        "    String greet(String name);",
+                        "    String greet(List<String> names, int times);",
+                        "    void closeQuietly();",
+                        "}"));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.CountingService", MethodArgumentsTests.class, "descriptors");
+    }
+
+    @Test
+    public void testMethodDescriptorsOnlyGeneratedOnRequest() {
+        Compilation compilation =
+                Compilations.compile(new StrategyProcessor(RecordingStrategy.INSTANCE), Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(Compilations.generatedSource(compilation, "com.palantir.example.RecordingService"))
+                .doesNotContain("MethodDescriptor");
+    }
+
+    @Test
+    public void testMethodDescriptorNameCollision() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(DescriptorCountingStrategy.INSTANCE),
+                Compilations.service("interface MethodDescriptor {}", "MethodDescriptor describe(String name);"));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.CountingService", MethodArgumentsTests.class, "descriptorCollision");
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.CollidingStrategy;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.PrintingProcessor;
+import com.palantir.delegate.processors.processor.PrintingProcessorStrategy;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import com.palantir.delegate.processors.processor.SimpleProcessorStrategy;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import com.palantir.delegate.processors.processor.Traced;
+import com.palantir.delegate.processors.processor.TracedStrategy;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MultipleStrategiesTests {
+
+    private static final JavaFileObject RESOURCE = JavaFileObjects.forSourceLines(
+            "com.palantir.example.Resource",
+            "package com.palantir.example;",
+            "@" + Delegate.class.getName(),
+            "public final class Resource implements Runnable {",
+            "    @Override",
+            "    public void run() {}",
+            "}");
+
+    @Test
+    public void testOutputMatchesIndividualProcessors() {
+        Compilation compilation = Compilations.compile(newMultipleStrategyProcessor(), RESOURCE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(Compilations.generatedSource(compilation, "com.palantir.example.ResourceWrapper"))
+                .isEqualTo(Compilations.generatedSource(
+                                Compilations.compile(new SimpleProcessor(), RESOURCE),
+                                "com.palantir.example.ResourceWrapper")
+                        .replace(SimpleProcessor.class.getName(), StrategyProcessor.class.getName()));
+        Assertions.assertThat(Compilations.generatedSource(compilation, "com.palantir.example.PrintingResource"))
+                .isEqualTo(Compilations.generatedSource(
+                                Compilations.compile(new PrintingProcessor(), RESOURCE),
+                                "com.palantir.example.PrintingResource")
+                        .replace(PrintingProcessor.class.getName(), StrategyProcessor.class.getName()));
+    }
+
+    @Test
+    public void testModelIsSharedBetweenStrategies() {
+        Compilation compilation =
+                Compilations.compile(newMultipleStrategyProcessor(), RESOURCE, "-Adelegate.processors.timings");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        CompilationSubject.assertThat(compilation).hadNoteContaining("model: ");
+        Assertions.assertThat(compilation.notes()).singleElement().satisfies(note -> Assertions.assertThat(
+                        note.getMessage(null))
+                .containsPattern("model: .* \\(1\\)")
+                .containsPattern("generate: .* \\(2\\)"));
+    }
+
+    @Test
+    public void testStrategiesFilteredByAnnotation() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(SimpleProcessorStrategy.INSTANCE, TracedStrategy.INSTANCE),
+                List.of(
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Resource",
+                                "package com.palantir.example;",
+                                "@" + Traced.class.getName(),
+                                "public final class Resource implements Runnable {",
+                                "    @Override",
+                                "    public void run() {}",
+                                "}"),
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.BothResource",
+                                "package com.palantir.example;",
+                                "@" + Traced.class.getName(),
+                                "public final class BothResource implements Runnable {",
+                                "    @" + Delegate.class.getName(),
+                                "    @Override",
+                                "    public void run() {}",
+                                "}")));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.TracedResource", MultipleStrategiesTests.class, "filtered");
+        Assertions.assertThat(compilation.generatedSourceFile("com.palantir.example.ResourceWrapper"))
+                .isEmpty();
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.TracedBothResource", MultipleStrategiesTests.class, "filtered");
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.BothResourceWrapper", MultipleStrategiesTests.class, "filtered");
+    }
+
+    @Test
+    public void testGeneratedTypeNameCollision() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(SimpleProcessorStrategy.INSTANCE, CollidingStrategy.INSTANCE),
+                JavaFileObjects.forSourceLines(
+                        "com.palantir.example.Resource",
+                        "package com.palantir.example;",
+                        "@" + Traced.class.getName(),
+                        "@" + Delegate.class.getName(),
+                        "public final class Resource implements Runnable {",
+                        "    @Override",
+                        "    public void run() {}",
+                        "}"));
+
+        CompilationSubject.assertThat(compilation).failed();
+        CompilationSubject.assertThat(compilation).hadErrorCount(1);
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining(
+                        "Strategies " + SimpleProcessorStrategy.INSTANCE + " and " + CollidingStrategy.INSTANCE
+                                + " both generate a wrapper named 'ResourceWrapper' for this type.")
+                .inFile(compilation.sourceFiles().get(0))
+                .onLine(4);
+    }
+
+    private static StrategyProcessor newMultipleStrategyProcessor() {
+        return new StrategyProcessor(SimpleProcessorStrategy.INSTANCE, PrintingProcessorStrategy.INSTANCE);
+    }
+}
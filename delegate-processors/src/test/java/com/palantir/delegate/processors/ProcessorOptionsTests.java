@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.GreetingStrategy;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProcessorOptionsTests {
+
+    private static final String WRAPPER = "com.palantir.example.ResourceWrapper";
+
+    private static final JavaFileObject RESOURCE = JavaFileObjects.forSourceLines(
+            "com.palantir.example.Resource",
+            "package com.palantir.example;",
+            "@" + Delegate.class.getName(),
+            "public final class Resource implements Runnable {",
+            "    @Override",
+            "    public void run() {}",
+            "}");
+
+    @Test
+    public void testFastEmitSkipsFormatting() {
+        JavaFileObject source = JavaFileObjects.forSourceLines(
+                "com.palantir.example.Resource",
+                "package com.palantir.example;",
+                "@" + Delegate.class.getName(),
+                "public interface Resource {",
+                "    void accept(String firstArgumentWithAVeryLongName, String secondArgumentWithAVeryLongName, "
+                        + "String thirdArgumentWithAVeryLongName);",
+                "}");
+
+        // JavaPoet neither inserts spaces between arguments nor wraps long lines
+        assertGeneratedSourceMatches(Compilations.compile(new SimpleProcessor(), source), "formatted");
+        assertGeneratedSourceMatches(
+                Compilations.compile(new SimpleProcessor(), source, "-Adelegate.processors.fastEmit"), "fastEmit");
+        assertGeneratedSourceMatches(
+                Compilations.compile(new SimpleProcessor(), source, "-Adelegate.processors.fastEmit=false"),
+                "formatted");
+    }
+
+    @Test
+    public void testStrategyOptions() {
+        Assertions.assertThat(new StrategyProcessor(GreetingStrategy.INSTANCE).getSupportedOptions())
+                .contains(GreetingStrategy.GREETING_OPTION, "delegate.processors.fastEmit");
+        assertGeneratedSourceMatches(
+                Compilations.compile(
+                        new StrategyProcessor(GreetingStrategy.INSTANCE), RESOURCE, "-Aexample.greeting=hello"),
+                "strategyOptions");
+    }
+
+    @Test
+    public void testConcreteDelegate() {
+        assertGeneratedSourceMatches(
+                Compilations.compile(new SimpleProcessor(), RESOURCE, "-Adelegate.processors.concreteDelegate"),
+                "concreteDelegate");
+        assertGeneratedSourceMatches(Compilations.compile(new SimpleProcessor(), RESOURCE), "interfaceDelegate");
+
+        // Non-final classes may be subclassed, calls through them are not necessarily monomorphic
+        JavaFileObject nonFinal = JavaFileObjects.forSourceLines(
+                "com.palantir.example.Resource",
+                "package com.palantir.example;",
+                "@" + Delegate.class.getName(),
+                "public class Resource implements Runnable {",
+                "    @Override",
+                "    public void run() {}",
+                "}");
+        assertGeneratedSourceMatches(
+                Compilations.compile(new SimpleProcessor(), nonFinal, "-Adelegate.processors.concreteDelegate"),
+                "nonFinalDelegate");
+    }
+
+    @Test
+    public void testInvalidOption() {
+        Compilation compilation =
+                Compilations.compile(new SimpleProcessor(), RESOURCE, "-Adelegate.processors.formatterThreads=none");
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining(
+                        "Expected a positive number for option 'delegate.processors.formatterThreads', found: none");
+        // Options are parsed once, rather than in each round
+        CompilationSubject.assertThat(compilation).hadErrorCount(1);
+    }
+
+    private static void assertGeneratedSourceMatches(Compilation compilation, String testCase) {
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Compilations.assertGeneratedSourceMatches(compilation, WRAPPER, ProcessorOptionsTests.class, testCase);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.palantir.delegate.processors.ProcessorTimings.Phase;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import java.io.IOException;
+import javax.tools.StandardLocation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProcessorTimingsTests {
+
+    @Test
+    public void testSummary() {
+        ProcessorTimings timings = timings();
+
+        Assertions.assertThat(timings.summary("Processor", 1))
+                .isEqualTo("Processor timings: 2 types in 1 rounds\n"
+                        + "  model: 4.000 ms (2)\n"
+                        + "  generate: 2.000 ms (1)\n"
+                        + "  format: 0.000 ms (0)\n"
+                        + "  write: 0.500 ms (1)\n"
+                        + "Slowest types:\n"
+                        + "  com.palantir.Slow: 5.500 ms"
+                        + " (model 3.000 ms, generate 2.000 ms, format 0.000 ms, write 0.500 ms)");
+    }
+
+    @Test
+    public void testJson() {
+        ProcessorTimings timings = timings();
+
+        Assertions.assertThat(timings.json("Processor", 2))
+                .isEqualTo("{\n"
+                        + "  \"processor\": \"Processor\",\n"
+                        + "  \"rounds\": 1,\n"
+                        + "  \"types\": 2,\n"
+                        + "  \"phases\": {\n"
+                        + "    \"model\": {\"nanos\": 4000000, \"count\": 2},\n"
+                        + "    \"generate\": {\"nanos\": 2000000, \"count\": 1},\n"
+                        + "    \"format\": {\"nanos\": 0, \"count\": 0},\n"
+                        + "    \"write\": {\"nanos\": 500000, \"count\": 1}\n"
+                        + "  },\n"
+                        + "  \"slowestTypes\": [\n"
+                        + "    {\"type\": \"com.palantir.Slow\", \"nanos\": 5500000, \"model\": 3000000,"
+                        + " \"generate\": 2000000, \"format\": 0, \"write\": 500000},\n"
+                        + "    {\"type\": \"com.palantir.Fast\", \"nanos\": 1000000, \"model\": 1000000,"
+                        + " \"generate\": 0, \"format\": 0, \"write\": 0}\n"
+                        + "  ]\n"
+                        + "}\n");
+    }
+
+    @Test
+    public void testTimingsNote() {
+        Compilation compilation = compile("-Adelegate.processors.timings");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        CompilationSubject.assertThat(compilation)
+                .hadNoteContaining(SimpleProcessor.class.getName() + " timings: 1 types in ");
+        CompilationSubject.assertThat(compilation).hadNoteContaining("com.palantir.example.Service: ");
+    }
+
+    @Test
+    public void testTimingsReport() throws IOException {
+        Compilation compilation = compile("-Adelegate.processors.timingsReport=timings/delegate.json");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation
+                        .generatedFile(StandardLocation.CLASS_OUTPUT, "timings/delegate.json")
+                        .orElseThrow()
+                        .getCharContent(false)
+                        .toString())
+                .contains("\"types\": 1")
+                .contains("\"type\": \"com.palantir.example.Service\"");
+    }
+
+    private static ProcessorTimings timings() {
+        ProcessorTimings timings = new ProcessorTimings();
+        timings.recordRound();
+        timings.record(Phase.MODEL, "com.palantir.Fast", 1_000_000);
+        timings.record(Phase.MODEL, "com.palantir.Slow", 3_000_000);
+        timings.record(Phase.GENERATE, "com.palantir.Slow", 2_000_000);
+        timings.record(Phase.WRITE, "com.palantir.Slow", 500_000);
+        return timings;
+    }
+
+    private static Compilation compile(String... options) {
+        return Compilations.compile(new SimpleProcessor(), Compilations.SERVICE, options);
+    }
+}
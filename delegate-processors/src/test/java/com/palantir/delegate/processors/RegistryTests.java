@@ -0,0 +1,207 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.common.collect.ObjectArrays;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.example.BoundedCallableGreetingResource;
+import com.palantir.delegate.processors.example.CloseableGreetingResource;
+import com.palantir.delegate.processors.example.ExpandedGreetingResource;
+import com.palantir.delegate.processors.example.ExpandedGreetingService;
+import com.palantir.delegate.processors.example.GreetingResource;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RegistryTests {
+
+    private static final boolean DEV_MODE = Boolean.getBoolean("recreate");
+    private static final Path TEST_CLASSES_BASE_DIR = Paths.get("src", "test", "java");
+    private static final Path RESOURCES_BASE_DIR = Paths.get("src", "test", "resources");
+    private static final String REGISTRY_PACKAGE = "com.palantir.delegate.processors.example";
+    private static final String REGISTRY_OPTION = "-Adelegate.processors.registry=" + REGISTRY_PACKAGE;
+
+    @Test
+    public void testRegistryMatches() throws IOException {
+        Compilation compilation = compile(
+                List.of(
+                        sourceFile(GreetingResource.class),
+                        sourceFile(CloseableGreetingResource.class),
+                        sourceFile(BoundedCallableGreetingResource.class),
+                        sourceFile(ExpandedGreetingService.class),
+                        sourceFile(ExpandedGreetingResource.class)),
+                REGISTRY_OPTION);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        String registryPath = REGISTRY_PACKAGE.replace('.', '/') + "/SimpleProcessorRegistry.java";
+        assertContentsMatch(
+                read(compilation.generatedFile(StandardLocation.SOURCE_OUTPUT, registryPath)), registryPath);
+        String indexPath = "META-INF/delegate-processors/" + REGISTRY_PACKAGE + ".SimpleProcessorRegistry";
+        assertContentsMatch(
+                read(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, indexPath)),
+                REGISTRY_PACKAGE.replace('.', '/') + "/SimpleProcessorRegistry.index");
+    }
+
+    @Test
+    public void testRegistryCreatesWrappers() throws ReflectiveOperationException {
+        Compilation compilation = compile(
+                List.of(JavaFileObjects.forSourceLines(
+                        "com.palantir.example.Resource",
+                        "package com.palantir.example;",
+                        "@" + Delegate.class.getName(),
+                        "public abstract class Resource implements Runnable {}")),
+                "-Adelegate.processors.registry=com.palantir.example");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Class<?> registry =
+                new CompilationClassLoader(compilation).loadClass("com.palantir.example.SimpleProcessorRegistry");
+        @SuppressWarnings("unchecked")
+        Optional<Function<Object, Object>> factory =
+                (Optional<Function<Object, Object>>) invoke(registry, "factory", Set.of(Runnable.class));
+        AtomicInteger runs = new AtomicInteger();
+        Object wrapper = factory.orElseThrow().apply((Runnable) runs::incrementAndGet);
+
+        Assertions.assertThat(wrapper.getClass().getName()).isEqualTo("com.palantir.example.ResourceWrapper");
+        ((Runnable) wrapper).run();
+        Assertions.assertThat(runs).hasValue(1);
+        Assertions.assertThat(invoke(registry, "factory", Set.of(AutoCloseable.class)))
+                .isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void testConcreteDelegatesNotRegistered() throws IOException {
+        Compilation compilation = compile(
+                List.of(sourceFile(GreetingResource.class)), REGISTRY_OPTION, "-Adelegate.processors.concreteDelegate");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        String indexPath = "META-INF/delegate-processors/" + REGISTRY_PACKAGE + ".SimpleProcessorRegistry";
+        Assertions.assertThat(read(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, indexPath)))
+                .isEmpty();
+    }
+
+    @Test
+    public void testReportsAggregatingWhenGeneratingRegistry() {
+        Assertions.assertThat(new SimpleProcessor().getSupportedOptions())
+                .contains("org.gradle.annotation.processing.isolating")
+                .doesNotContain("org.gradle.annotation.processing.aggregating");
+        SimpleProcessor processor = new SimpleProcessor();
+        Compilation compilation = Compilations.compile(processor, sourceFile(GreetingResource.class), REGISTRY_OPTION);
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(processor.getSupportedOptions())
+                .contains("org.gradle.annotation.processing.aggregating")
+                .doesNotContain("org.gradle.annotation.processing.isolating");
+    }
+
+    @Test
+    public void testInvalidRegistryPackage() {
+        Compilation compilation =
+                compile(List.of(sourceFile(GreetingResource.class)), "-Adelegate.processors.registry=not a package");
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Expected a package name for option 'delegate.processors.registry'");
+    }
+
+    private static Object invoke(Class<?> registry, String method, Set<Class<?>> interfaces)
+            throws ReflectiveOperationException {
+        try {
+            return registry.getMethod(method, Set.class).invoke(null, interfaces);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Compilation compile(List<JavaFileObject> sources, String... options) {
+        return Compilations.compile(
+                new SimpleProcessor(),
+                sources,
+                ObjectArrays.concat(
+                        new String[] {"-Werror", "-Xlint:deprecation", "-Xlint:unchecked", "-Xlint:rawtypes"},
+                        options,
+                        String.class));
+    }
+
+    private static JavaFileObject sourceFile(Class<?> clazz) {
+        Path path = TEST_CLASSES_BASE_DIR.resolve(clazz.getName().replace('.', '/') + ".java");
+        try {
+            return JavaFileObjects.forSourceString(clazz.getName(), Files.readString(path));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String read(Optional<JavaFileObject> file) throws IOException {
+        try (InputStream inputStream = file.orElseThrow().openInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void assertContentsMatch(String contents, String relativePath) throws IOException {
+        Path output = RESOURCES_BASE_DIR.resolve(relativePath + ".generated");
+        if (DEV_MODE) {
+            Files.createDirectories(output.getParent());
+            Files.writeString(output, contents);
+        }
+        Assertions.assertThat(contents).isEqualTo(Files.readString(output));
+    }
+
+    /** Loads classes compiled by a {@link Compilation}, in preference to those on the test classpath. */
+    private static final class CompilationClassLoader extends ClassLoader {
+        private final Compilation compilation;
+
+        CompilationClassLoader(Compilation compilation) {
+            super(RegistryTests.class.getClassLoader());
+            this.compilation = compilation;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                Optional<JavaFileObject> classFile =
+                        compilation.generatedFile(StandardLocation.CLASS_OUTPUT, name.replace('.', '/') + ".class");
+                if (classFile.isEmpty()) {
+                    return super.loadClass(name, resolve);
+                }
+                try (InputStream inputStream = classFile.get().openInputStream()) {
+                    byte[] bytes = inputStream.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
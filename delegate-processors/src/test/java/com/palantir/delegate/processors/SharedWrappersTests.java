@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.SimpleProcessor;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import com.palantir.delegate.processors.processor.TypeNameStrategy;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SharedWrappersTests {
+
+    private static final List<JavaFileObject> SOURCES = List.of(
+            JavaFileObjects.forSourceLines(
+                    "com.palantir.example.Service",
+                    "package com.palantir.example;",
+                    "public interface Service {",
+                    "    String greet(String name);",
+                    "}"),
+            resource("FirstResource", "Service"),
+            resource("SecondResource", "Service"),
+            resource("ThirdResource", "Service, Runnable"));
+
+    @Test
+    public void testWrapperSharedByInterfaces() {
+        Compilation compilation =
+                Compilations.compile(new SimpleProcessor(), SOURCES, "-Adelegate.processors.shareWrappers");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation.generatedSourceFiles())
+                .extracting(JavaFileObject::getName)
+                .containsExactlyInAnyOrder(
+                        "/SOURCE_OUTPUT/com/palantir/example/ServiceWrapper.java",
+                        "/SOURCE_OUTPUT/com/palantir/example/ThirdResourceWrapper.java");
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ServiceWrapper", SharedWrappersTests.class, "shared");
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ThirdResourceWrapper", SharedWrappersTests.class, "shared");
+    }
+
+    @Test
+    public void testSharedWrapperGeneratedOncePerType() {
+        Compilation compilation = Compilations.compile(
+                new SimpleProcessor(), SOURCES, "-Adelegate.processors.shareWrappers", "-Adelegate.processors.timings");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation.notes()).singleElement().satisfies(note -> Assertions.assertThat(
+                        note.getMessage(null))
+                .containsPattern("generate: .* \\(3\\)"));
+    }
+
+    @Test
+    public void testTypeSpecificWrappersNotShared() {
+        Compilation compilation = Compilations.compile(
+                new StrategyProcessor(TypeNameStrategy.INSTANCE), SOURCES, "-Adelegate.processors.shareWrappers=true");
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation.generatedSourceFiles())
+                .extracting(JavaFileObject::getName)
+                .containsExactlyInAnyOrder(
+                        "/SOURCE_OUTPUT/com/palantir/example/FirstResourceTyped.java",
+                        "/SOURCE_OUTPUT/com/palantir/example/SecondResourceTyped.java",
+                        "/SOURCE_OUTPUT/com/palantir/example/ThirdResourceTyped.java");
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.FirstResourceTyped", SharedWrappersTests.class, "typeSpecific");
+    }
+
+    @Test
+    public void testReportsAggregatingWhenSharingWrappers() {
+        SimpleProcessor processor = new SimpleProcessor();
+        CompilationSubject.assertThat(Compilations.compile(processor, SOURCES, "-Adelegate.processors.shareWrappers"))
+                .succeededWithoutWarnings();
+        Assertions.assertThat(processor.getSupportedOptions())
+                .contains("org.gradle.annotation.processing.aggregating")
+                .doesNotContain("org.gradle.annotation.processing.isolating");
+    }
+
+    private static JavaFileObject resource(String name, String interfaces) {
+        return JavaFileObjects.forSourceLines(
+                "com.palantir.example." + name,
+                "package com.palantir.example;",
+                "@" + Delegate.class.getName(),
+                "public abstract class " + name + " implements " + interfaces + " {}");
+    }
+}
@@ -18,6 +18,7 @@ package com.palantir.delegate.processors;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
 import com.google.common.io.ByteSource;
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.CompilationSubject;
@@ -27,12 +28,17 @@ import com.palantir.delegate.processors.example.BoundedCallableGreetingResource;
 import com.palantir.delegate.processors.example.CallableGreetingResource;
 import com.palantir.delegate.processors.example.CloseableGreetingResource;
 import com.palantir.delegate.processors.example.CollisionService;
+import com.palantir.delegate.processors.example.DiamondGreetingResource;
 import com.palantir.delegate.processors.example.ExpandedGreetingResource;
 import com.palantir.delegate.processors.example.ExpandedGreetingService;
+import com.palantir.delegate.processors.example.ExternalInterfaces;
 import com.palantir.delegate.processors.example.GreetingResource;
 import com.palantir.delegate.processors.example.NoInterfacesResource;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.DelegateExternal;
 import com.palantir.delegate.processors.processor.SimpleProcessor;
 import com.palantir.delegate.processors.processor.SimpleProcessorStrategy;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
@@ -40,6 +46,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Supplier;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 import org.assertj.core.api.Assertions;
@@ -76,6 +84,11 @@ public class SimpleProcessorTests {
         assertTestFileCompileAndMatches(TEST_CLASSES_BASE_DIR, ExpandedGreetingService.class);
     }
 
+    @Test
+    public void testDiamondInterfaceHierarchy() {
+        assertTestFileCompileAndMatches(TEST_CLASSES_BASE_DIR, DiamondGreetingResource.class);
+    }
+
     @Test
     public void testNameCollision() {
         assertTestFileCompileAndMatches(TEST_CLASSES_BASE_DIR, CollisionService.class);
@@ -89,6 +102,110 @@ public class SimpleProcessorTests {
         assertTestFileCompileAndMatches(TEST_CLASSES_BASE_DIR, ExpandedGreetingResource.class);
     }
 
+    @Test
+    public void testParallelFormattingMatchesSerialOutput() {
+        List<Class<?>> classes = List.of(
+                GreetingResource.class,
+                CloseableGreetingResource.class,
+                CallableGreetingResource.class,
+                BoundedCallableGreetingResource.class,
+                ExpandedGreetingService.class,
+                DiamondGreetingResource.class,
+                CollisionService.class,
+                ExpandedGreetingResource.class);
+        Compilation compilation =
+                compileTestClasses(TEST_CLASSES_BASE_DIR, classes, "-Adelegate.processors.formatterThreads=4");
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        for (Class<?> clazz : classes) {
+            assertGeneratedFileMatches(compilation, clazz);
+        }
+    }
+
+    @Test
+    public void testExternalInterfaces() {
+        Compilation compilation = compileTestClass(TEST_CLASSES_BASE_DIR, ExternalInterfaces.class);
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedFileMatches(compilation, ExternalInterfaces.class.getPackage(), Supplier.class);
+        assertGeneratedFileMatches(compilation, ExternalInterfaces.class.getPackage(), Closeable.class);
+    }
+
+    @Test
+    public void testExternalInterfacesOnPackage() {
+        Compilation compilation = Compiler.javac()
+                .withOptions("-Werror")
+                .withProcessors(new SimpleProcessor())
+                .compile(JavaFileObjects.forSourceLines(
+                        "com.palantir.example.package-info",
+                        "@" + DelegateExternal.class.getName()
+                                + "({java.sql.Connection.class, javax.sql.DataSource.class})",
+                        "package com.palantir.example;"));
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        CompilationSubject.assertThat(compilation).generatedSourceFile("com.palantir.example.ConnectionWrapper");
+        CompilationSubject.assertThat(compilation).generatedSourceFile("com.palantir.example.DataSourceWrapper");
+    }
+
+    @Test
+    public void testExternalClass() {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new SimpleProcessor())
+                .compile(JavaFileObjects.forSourceLines(
+                        "com.palantir.example.Holder",
+                        "package com.palantir.example;",
+                        "@" + DelegateExternal.class.getName() + "(String.class)",
+                        "final class Holder {}"));
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Expected an interface to be named by @" + DelegateExternal.class.getName()
+                        + ", found: java.lang.String");
+    }
+
+    @Test
+    public void testExternalInterfaceNamedTwice() {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new SimpleProcessor())
+                .compile(
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.A",
+                                "package com.palantir.example;",
+                                "@" + DelegateExternal.class.getName() + "(Runnable.class)",
+                                "final class A {}"),
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.B",
+                                "package com.palantir.example;",
+                                "@" + DelegateExternal.class.getName() + "(Runnable.class)",
+                                "final class B {}"));
+        CompilationSubject.assertThat(compilation).hadErrorCount(1);
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Wrapper 'com.palantir.example.RunnableWrapper' is already generated for "
+                        + "'com.palantir.example.A'.")
+                .inFile(compilation.sourceFiles().get(1))
+                .onLineContaining("@");
+    }
+
+    @Test
+    public void testExternalInterfaceAnnotatedInPackage() {
+        Compilation compilation = Compiler.javac()
+                .withProcessors(new SimpleProcessor())
+                .compile(
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Service",
+                                "package com.palantir.example;",
+                                "@" + Delegate.class.getName(),
+                                "public interface Service {",
+                                "    void run();",
+                                "}"),
+                        JavaFileObjects.forSourceLines(
+                                "com.palantir.example.Holder",
+                                "package com.palantir.example;",
+                                "@" + DelegateExternal.class.getName() + "(Service.class)",
+                                "final class Holder {}"));
+        CompilationSubject.assertThat(compilation).hadErrorCount(1);
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Wrapper 'com.palantir.example.ServiceWrapper' is already generated for "
+                        + "'com.palantir.example.Service'.")
+                .inFile(compilation.sourceFiles().get(1))
+                .onLineContaining("@");
+    }
+
     @Test
     public void testNoInterfaces() {
         Compilation compilation = compileTestClass(TEST_CLASSES_BASE_DIR, NoInterfacesResource.class);
@@ -99,8 +216,16 @@ public class SimpleProcessorTests {
     private static void assertTestFileCompileAndMatches(Path basePath, Class<?> clazz) {
         Compilation compilation = compileTestClass(basePath, clazz);
         CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedFileMatches(compilation, clazz);
+    }
+
+    private static void assertGeneratedFileMatches(Compilation compilation, Class<?> clazz) {
+        assertGeneratedFileMatches(compilation, clazz.getPackage(), clazz);
+    }
+
+    private static void assertGeneratedFileMatches(Compilation compilation, Package generatedPackage, Class<?> clazz) {
         String generatedClassName = SimpleProcessorStrategy.INSTANCE.generatedTypeName(clazz.getSimpleName());
-        String generatedFqnClassName = clazz.getPackage().getName() + "." + generatedClassName;
+        String generatedFqnClassName = generatedPackage.getName() + "." + generatedClassName;
         String generatedClassFileRelativePath = generatedFqnClassName.replaceAll("\\.", "/") + ".java";
         Assertions.assertThat(compilation.generatedFile(StandardLocation.SOURCE_OUTPUT, generatedClassFileRelativePath))
                 .hasValueSatisfying(
@@ -108,14 +233,27 @@ public class SimpleProcessorTests {
     }
 
     private static Compilation compileTestClass(Path basePath, Class<?> clazz) {
+        return compileTestClasses(basePath, List.of(clazz));
+    }
+
+    private static Compilation compileTestClasses(Path basePath, List<Class<?>> classes, String... options) {
+        return Compiler.javac()
+                .withOptions(ImmutableList.<String>builder()
+                        .add("-source", "11", "-Werror", "-Xlint:deprecation", "-Xlint:unchecked")
+                        .add(options)
+                        .build())
+                .withProcessors(new SimpleProcessor())
+                .compile(classes.stream()
+                        .map(clazz -> sourceFile(basePath, clazz))
+                        .collect(ImmutableList.toImmutableList()));
+    }
+
+    private static JavaFileObject sourceFile(Path basePath, Class<?> clazz) {
         Path clazzPath = basePath.resolve(Paths.get(
                 Joiner.on("/").join(Splitter.on(".").split(clazz.getPackage().getName())),
                 clazz.getSimpleName() + ".java"));
         try {
-            return Compiler.javac()
-                    .withOptions("-source", "11", "-Werror", "-Xlint:deprecation", "-Xlint:unchecked")
-                    .withProcessors(new SimpleProcessor())
-                    .compile(JavaFileObjects.forResource(clazzPath.toUri().toURL()));
+            return JavaFileObjects.forResource(clazzPath.toUri().toURL());
         } catch (MalformedURLException e) {
             throw new RuntimeException(e);
         }
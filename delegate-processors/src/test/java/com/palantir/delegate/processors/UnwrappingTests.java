@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.CompilationSubject;
+import com.google.testing.compile.JavaFileObjects;
+import com.palantir.delegate.processors.processor.Delegate;
+import com.palantir.delegate.processors.processor.StrategyProcessor;
+import com.palantir.delegate.processors.processor.UnwrappingStrategy;
+import javax.tools.JavaFileObject;
+import org.junit.jupiter.api.Test;
+
+public class UnwrappingTests {
+
+    @Test
+    public void testIdempotentFactoryAndUnwrap() {
+        Compilation compilation = compile(Compilations.SERVICE);
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "idempotent");
+    }
+
+    @Test
+    public void testGenericFactoryNotIdempotent() {
+        Compilation compilation = compile(JavaFileObjects.forSourceLines(
+                "com.palantir.example.Service",
+                "package com.palantir.example;",
+                "@" + Delegate.class.getName(),
+                "public final class Service implements Runnable, AutoCloseable {",
+                "    @Override",
+                "    public void run() {}",
+                "    @Override",
+                "    public void close() {}",
+                "}"));
+
+        CompilationSubject.assertThat(compilation).succeededWithoutWarnings();
+        assertGeneratedSourceMatches(compilation, "generic");
+    }
+
+    @Test
+    public void testUnwrapMethodConflict() {
+        Compilation compilation = compile(Compilations.service("Object unwrap();"));
+
+        CompilationSubject.assertThat(compilation)
+                .hadErrorContaining("Unwrap method 'unwrap' conflicts with a method of the generated type");
+    }
+
+    private static Compilation compile(JavaFileObject source) {
+        return Compilations.compile(new StrategyProcessor(UnwrappingStrategy.INSTANCE), source);
+    }
+
+    private static void assertGeneratedSourceMatches(Compilation compilation, String testCase) {
+        Compilations.assertGeneratedSourceMatches(
+                compilation, "com.palantir.example.ServiceWrapper", UnwrappingTests.class, testCase);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Optional;
+import java.util.Set;
+
+/** Audits calls using members the wrapper inherits from {@link Audited} and {@link Object}. */
+public enum AuditingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return annotatedTypeName + "Wrapper";
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments _arguments) {
+        return Optional.of(CodeBlock.builder().addStatement("audit(hashCode())").build());
+    }
+
+    @Override
+    public void customize(CustomizeArguments arguments, TypeSpec.Builder generatedType) {
+        SimpleProcessorStrategy.INSTANCE.customize(arguments, generatedType);
+        generatedType.addSuperinterface(Audited.class);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import java.util.Set;
+
+/** Wraps types annotated with {@link Traced} under the same name as {@link SimpleProcessorStrategy}. */
+public enum CollidingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Traced.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return SimpleProcessorStrategy.INSTANCE.generatedTypeName(annotatedTypeName);
+    }
+}
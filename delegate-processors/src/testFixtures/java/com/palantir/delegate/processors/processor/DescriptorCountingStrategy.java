@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.palantir.delegate.processors.LocalVariable;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import javax.lang.model.element.Modifier;
+
+/** Counts calls to each method in an array indexed by method id, and logs failures by descriptor. */
+public enum DescriptorCountingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return "Counting" + annotatedTypeName;
+    }
+
+    @Override
+    public boolean methodDescriptors() {
+        return true;
+    }
+
+    @Override
+    public List<FieldSpec> additionalFields(AdditionalFieldsArguments arguments) {
+        return List.of(FieldSpec.builder(long[].class, "CALLS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new long[$L]", arguments.type().methods().size())
+                .build());
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments arguments) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement(
+                        "CALLS[$L]++", arguments.descriptor().orElseThrow().id())
+                .build());
+    }
+
+    @Override
+    public Optional<CodeBlock> onFailure(DelegateMethodArguments arguments, LocalVariable _throwable) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement(
+                        "$T.getGlobal().fine($L.name() + $S)",
+                        Logger.class,
+                        arguments.descriptor().orElseThrow().reference(),
+                        " failed")
+                .build());
+    }
+}
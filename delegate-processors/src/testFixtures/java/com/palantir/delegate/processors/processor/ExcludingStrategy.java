@@ -0,0 +1,38 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import java.util.Set;
+
+/** Excludes methods annotated {@link Hot} and default interface methods. */
+public final class ExcludingStrategy extends LoggingStrategy {
+    public static final ExcludingStrategy INSTANCE = new ExcludingStrategy();
+
+    private ExcludingStrategy() {
+        super("excluding");
+    }
+
+    @Override
+    public Set<String> excludedAnnotations() {
+        return Set.of(Hot.class.getName());
+    }
+
+    @Override
+    public boolean hooked(DelegateMethodArguments arguments) {
+        return !arguments.method().implementation().isDefault();
+    }
+}
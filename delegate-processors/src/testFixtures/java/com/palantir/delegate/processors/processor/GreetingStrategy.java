@@ -0,0 +1,53 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.Modifier;
+
+/** Adds a {@code GREETING} constant configured by the {@value #GREETING_OPTION} processor option. */
+public enum GreetingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    public static final String GREETING_OPTION = "example.greeting";
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public Set<String> supportedOptions() {
+        return Set.of(GREETING_OPTION);
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return annotatedTypeName + "Wrapper";
+    }
+
+    @Override
+    public List<FieldSpec> additionalFields(AdditionalFieldsArguments arguments) {
+        return List.of(FieldSpec.builder(TypeName.get(String.class), "GREETING", Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", arguments.context().options().get(GREETING_OPTION))
+                .build());
+    }
+}
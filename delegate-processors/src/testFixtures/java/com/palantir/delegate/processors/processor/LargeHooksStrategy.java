@@ -0,0 +1,68 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.palantir.delegate.processors.LocalVariable;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeSpec;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/** Generates hooks too large for the wrapper method to be inlined by the JIT. */
+public enum LargeHooksStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return annotatedTypeName + "Wrapper";
+    }
+
+    @Override
+    public boolean movableHooks() {
+        return true;
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments _arguments) {
+        return Optional.of(checks("before"));
+    }
+
+    @Override
+    public Optional<CodeBlock> onSuccess(DelegateMethodArguments _arguments, Optional<LocalVariable> _result) {
+        return Optional.of(checks("onSuccess"));
+    }
+
+    @Override
+    public void customize(CustomizeArguments arguments, TypeSpec.Builder generatedType) {
+        SimpleProcessorStrategy.INSTANCE.customize(arguments, generatedType);
+    }
+
+    private static CodeBlock checks(String hook) {
+        CodeBlock.Builder checks = CodeBlock.builder();
+        for (int i = 0; i < 40; i++) {
+            checks.addStatement("$T.requireNonNull($S, $S)", Objects.class, hook, Integer.toString(i));
+        }
+        return checks.build();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.palantir.delegate.processors.LocalVariable;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.logging.Logger;
+import javax.lang.model.element.Modifier;
+
+/** Logs each hook to a logger named after the layer. */
+public final class LayerStrategy implements DelegateProcessorStrategy {
+    private final String layer;
+    private final OptionalInt sampleRate;
+
+    public LayerStrategy(String layer) {
+        this(layer, OptionalInt.empty());
+    }
+
+    public LayerStrategy(String layer, OptionalInt sampleRate) {
+        this.layer = layer;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return "Printing" + annotatedTypeName;
+    }
+
+    @Override
+    public List<FieldSpec> additionalFields(AdditionalFieldsArguments _arguments) {
+        return List.of(FieldSpec.builder(
+                        TypeName.get(String.class), fieldName(), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", layer)
+                .build());
+    }
+
+    @Override
+    public OptionalInt sampleRate(DelegateMethodArguments _arguments) {
+        return sampleRate;
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments _arguments) {
+        return hook("before");
+    }
+
+    @Override
+    public Optional<CodeBlock> onSuccess(DelegateMethodArguments _arguments, Optional<LocalVariable> _result) {
+        return hook("onSuccess");
+    }
+
+    @Override
+    public Optional<CodeBlock> onFailure(DelegateMethodArguments _arguments, LocalVariable _throwable) {
+        return hook("onFailure");
+    }
+
+    @Override
+    public Optional<CodeBlock> alwaysAfter(DelegateMethodArguments _arguments) {
+        return hook("alwaysAfter");
+    }
+
+    private Optional<CodeBlock> hook(String hook) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement("$T.getLogger($N).fine($S)", Logger.class, fieldName(), hook)
+                .build());
+    }
+
+    private String fieldName() {
+        return layer.toUpperCase(Locale.ROOT);
+    }
+}
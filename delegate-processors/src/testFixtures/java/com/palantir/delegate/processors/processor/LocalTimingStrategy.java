@@ -0,0 +1,60 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.palantir.delegate.processors.LocalVariable;
+import com.squareup.javapoet.CodeBlock;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/** Times calls with a local variable declared by the {@code before} hook and read by the {@code alwaysAfter} hook. */
+public enum LocalTimingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return "Timed" + annotatedTypeName;
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments _arguments) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement("long _start = System.nanoTime()")
+                .build());
+    }
+
+    @Override
+    public Optional<CodeBlock> onFailure(DelegateMethodArguments _arguments, LocalVariable throwable) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement("$T.getGlobal().fine($N.toString())", Logger.class, throwable.name())
+                .build());
+    }
+
+    @Override
+    public Optional<CodeBlock> alwaysAfter(DelegateMethodArguments _arguments) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement("$T.getGlobal().fine(Long.toString(System.nanoTime() - _start))", Logger.class)
+                .build());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.squareup.javapoet.CodeBlock;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/** Logs calls to a logger named after the strategy. */
+public class LoggingStrategy implements DelegateProcessorStrategy {
+    private final String logger;
+
+    public LoggingStrategy(String logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return "Logging" + annotatedTypeName;
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments arguments) {
+        return Optional.of(CodeBlock.builder()
+                .addStatement(
+                        "$T.getLogger($S).fine($S)",
+                        Logger.class,
+                        logger,
+                        arguments.method().implementation().getSimpleName())
+                .build());
+    }
+}
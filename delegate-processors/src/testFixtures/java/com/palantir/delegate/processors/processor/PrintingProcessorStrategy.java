@@ -19,9 +19,11 @@ package com.palantir.delegate.processors.processor;
 import com.palantir.delegate.processors.DelegateProcessorStrategy;
 import com.palantir.delegate.processors.LocalVariable;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeSpec;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.Modifier;
@@ -76,19 +78,32 @@ public enum PrintingProcessorStrategy implements DelegateProcessorStrategy {
                 .build());
     }
 
+    @Override
+    public boolean movableHooks() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> factoryMethodName() {
+        return Optional.of("of");
+    }
+
     @Override
     public void customize(CustomizeArguments arguments, TypeSpec.Builder generatedType) {
+        List<FieldSpec> constructorFields = generatedType.fieldSpecs.stream()
+                .filter(spec -> spec.initializer.isEmpty() && !spec.modifiers.contains(Modifier.STATIC))
+                .toList();
         generatedType.addMethod(MethodSpec.methodBuilder("of")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .addTypeVariables(generatedType.typeVariables)
-                .addParameters(generatedType.fieldSpecs.stream()
+                .addParameters(constructorFields.stream()
                         .map(spec -> ParameterSpec.builder(spec.type, spec.name).build())
                         .toList())
                 .returns(arguments.generatedTypeName())
                 .addStatement(
                         "return new $T($L)",
                         arguments.generatedTypeName(),
-                        generatedType.fieldSpecs.stream()
+                        constructorFields.stream()
                                 .map(spec -> CodeBlock.of("$N", spec.name))
                                 .collect(CodeBlock.joining(", ")))
                 .build());
@@ -0,0 +1,58 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.palantir.delegate.processors.LocalVariable;
+import com.squareup.javapoet.CodeBlock;
+import java.util.Optional;
+import java.util.Set;
+
+/** Sums primitive parameters and results, and copies other parameters into locals of their resolved type. */
+public enum RecordingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return "Recording" + annotatedTypeName;
+    }
+
+    @Override
+    public Optional<CodeBlock> before(DelegateMethodArguments arguments) {
+        CodeBlock.Builder code = CodeBlock.builder().addStatement("long _total = 0");
+        for (LocalVariable parameter : arguments.parameters()) {
+            if (parameter.isPrimitive()) {
+                code.addStatement("_total += $N", parameter.name());
+            } else {
+                code.addStatement("$T _$N = $N", parameter.type(), parameter.name(), parameter.name());
+            }
+        }
+        return Optional.of(code.build());
+    }
+
+    @Override
+    public Optional<CodeBlock> onSuccess(DelegateMethodArguments _arguments, Optional<LocalVariable> result) {
+        return result.filter(LocalVariable::isPrimitive).map(variable -> CodeBlock.builder()
+                .addStatement("_total += $N", variable.name())
+                .build());
+    }
+}
@@ -22,6 +22,7 @@ import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.TypeSpec;
+import java.util.Optional;
 import java.util.Set;
 import javax.lang.model.element.Modifier;
 
@@ -33,11 +34,21 @@ public enum SimpleProcessorStrategy implements DelegateProcessorStrategy {
         return Set.of(Delegate.class.getName());
     }
 
+    @Override
+    public Set<String> externalAnnotations() {
+        return Set.of(DelegateExternal.class.getName());
+    }
+
     @Override
     public String generatedTypeName(String annotatedTypeName) {
         return annotatedTypeName + "Wrapper";
     }
 
+    @Override
+    public Optional<String> factoryMethodName() {
+        return Optional.of("of");
+    }
+
     @Override
     public void customize(CustomizeArguments arguments, TypeSpec.Builder generatedType) {
         generatedType.addMethod(MethodSpec.methodBuilder("of")
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.delegate.processors.processor;
+
+import com.google.common.collect.Iterables;
+import com.palantir.delegate.processors.DelegateProcessorStrategy;
+import com.palantir.delegate.processors.LocalVariable;
+import com.palantir.delegate.processors.StateVariable;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.TypeName;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/** Times calls with a state variable passed from the {@code before} hook to later hooks. */
+public enum StateTimingStrategy implements DelegateProcessorStrategy {
+    INSTANCE;
+
+    @Override
+    public Set<String> supportedAnnotations() {
+        return Set.of(Delegate.class.getName());
+    }
+
+    @Override
+    public String generatedTypeName(String annotatedTypeName) {
+        return "Timed" + annotatedTypeName;
+    }
+
+    @Override
+    public List<StateVariable> state(DelegateMethodArguments _arguments) {
+        return List.of(StateVariable.builder()
+                .type(TypeName.LONG)
+                .name("_start")
+                .initializer(CodeBlock.of("$T.nanoTime()", System.class))
+                .build());
+    }
+
+    @Override
+    public boolean movableHooks() {
+        return true;
+    }
+
+    @Override
+    public Optional<CodeBlock> onFailure(DelegateMethodArguments arguments, LocalVariable _throwable) {
+        return Optional.of(log(arguments, "failed after"));
+    }
+
+    @Override
+    public Optional<CodeBlock> alwaysAfter(DelegateMethodArguments arguments) {
+        return Optional.of(log(arguments, "took"));
+    }
+
+    private static CodeBlock log(DelegateMethodArguments arguments, String message) {
+        LocalVariable start = Iterables.getOnlyElement(arguments.state());
+        return CodeBlock.builder()
+                .addStatement(
+                        "$T.getGlobal().fine($S + ($T.nanoTime() - $N))",
+                        Logger.class,
+                        arguments.method().implementation().getSimpleName() + " " + message + " ",
+                        System.class,
+                        start.name())
+                .build();
+    }
+}